@@ -1,11 +1,11 @@
 package com.software.modsen.drivermicroservice.annotations;
 
-import java.lang.annotation.ElementType;
-import java.lang.annotation.Retention;
-import java.lang.annotation.RetentionPolicy;
-import java.lang.annotation.Target;
+import java.lang.annotation.*;
 
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
+@Repeatable(CacheableDeleteMethods.class)
 public @interface CacheableDeleteMethod {
+    String namespace() default "";
+    String key() default "";
 }
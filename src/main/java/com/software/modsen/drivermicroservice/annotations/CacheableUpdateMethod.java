@@ -1,14 +1,14 @@
 package com.software.modsen.drivermicroservice.annotations;
 
-import java.lang.annotation.ElementType;
-import java.lang.annotation.Retention;
-import java.lang.annotation.RetentionPolicy;
-import java.lang.annotation.Target;
+import java.lang.annotation.*;
 import java.util.concurrent.TimeUnit;
 
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
+@Repeatable(CacheableUpdateMethods.class)
 public @interface CacheableUpdateMethod {
+    String namespace() default "";
+    String key() default "";
     long ttl() default 10;
     TimeUnit timeUnit() default TimeUnit.MINUTES;
 }
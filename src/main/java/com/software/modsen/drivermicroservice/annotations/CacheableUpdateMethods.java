@@ -0,0 +1,12 @@
+package com.software.modsen.drivermicroservice.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheableUpdateMethods {
+    CacheableUpdateMethod[] value();
+}
@@ -0,0 +1,14 @@
+package com.software.modsen.drivermicroservice.annotations;
+
+import com.software.modsen.drivermicroservice.cache.HotKeyTracker;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface HotKey {
+    HotKeyTracker.KeyType value();
+}
@@ -0,0 +1,135 @@
+package com.software.modsen.drivermicroservice.aspects;
+
+import com.software.modsen.drivermicroservice.cache.CacheOperation;
+import com.software.modsen.drivermicroservice.cache.CacheOperationSource;
+import com.software.modsen.drivermicroservice.cache.RefreshAheadExecutor;
+import com.software.modsen.drivermicroservice.cache.SingleFlightLoader;
+import com.software.modsen.drivermicroservice.cache.TransactionalCacheWriter;
+import com.software.modsen.drivermicroservice.configs.datasource.PrimaryReads;
+import com.software.modsen.drivermicroservice.services.RedisService;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class CachingAspect {
+    private final CacheOperationSource cacheOperationSource;
+    private final RedisService redisService;
+    private final TransactionalCacheWriter cacheWriter;
+    private final SingleFlightLoader singleFlightLoader;
+    private final RefreshAheadExecutor refreshAheadExecutor;
+
+    @Pointcut("@annotation(com.software.modsen.drivermicroservice.annotations.CacheableMethod)")
+    public void isCacheableMethod() {
+    }
+
+    @Pointcut("@annotation(com.software.modsen.drivermicroservice.annotations.CacheableUpdateMethod) || " +
+            "@annotation(com.software.modsen.drivermicroservice.annotations.CacheableUpdateMethods)")
+    public void isCacheableUpdateMethod() {
+    }
+
+    @Pointcut("@annotation(com.software.modsen.drivermicroservice.annotations.CacheableDeleteMethod) || " +
+            "@annotation(com.software.modsen.drivermicroservice.annotations.CacheableDeleteMethods)")
+    public void isCacheableDeleteMethod() {
+    }
+
+    @Around("isCacheableMethod()")
+    public Object cachingMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        CacheOperation operation = cacheOperationSource.getCacheableOperation(method(joinPoint));
+        String key = operation.key(joinPoint.getArgs());
+
+        if (key == null) {
+            return joinPoint.proceed();
+        }
+
+        if (operation.isRefreshAhead()) {
+            RedisService.CachedValue cachedValue = redisService.getFromCacheWithExpiration(key);
+
+            if (cachedValue != null) {
+                if (operation.shouldRefresh(cachedValue.remainingTtlMillis())) {
+                    refreshAheadExecutor.refresh(key, () -> load(joinPoint, operation, key));
+                }
+
+                return cachedValue.value();
+            }
+        } else {
+            Object cachedValue = redisService.getFromCache(key);
+
+            if (cachedValue != null) {
+                return cachedValue;
+            }
+        }
+
+        return singleFlightLoader.load(key, () -> load(joinPoint, operation, key));
+    }
+
+    @Around("isCacheableUpdateMethod()")
+    public Object cachingUpdateMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object result = joinPoint.proceed();
+
+        if (result == null) {
+            return null;
+        }
+
+        for (CacheOperation operation : cacheOperationSource.getUpdateOperations(method(joinPoint))) {
+            String key = operation.key(joinPoint.getArgs(), result);
+
+            if (key != null) {
+                cacheWriter.saveToCache(key, result, operation.getTtl(), operation.getTimeUnit());
+            }
+        }
+
+        return result;
+    }
+
+    @Around("isCacheableDeleteMethod()")
+    public Object cachingDeleteMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object result = joinPoint.proceed();
+
+        for (CacheOperation operation : cacheOperationSource.getDeleteOperations(method(joinPoint))) {
+            String key = operation.key(joinPoint.getArgs(), result);
+
+            if (key != null) {
+                cacheWriter.invalidateCache(key);
+            }
+        }
+
+        return result;
+    }
+
+    private Object load(ProceedingJoinPoint joinPoint, CacheOperation operation, String key) {
+        Object value = PrimaryReads.call(() -> proceed(joinPoint));
+
+        if (value != null) {
+            redisService.saveToCache(key, value, operation.getTtl(), operation.getTimeUnit());
+        }
+
+        return value;
+    }
+
+    private static Method method(ProceedingJoinPoint joinPoint) {
+        return ((MethodSignature) joinPoint.getSignature()).getMethod();
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new UndeclaredThrowableException(throwable);
+        }
+    }
+}
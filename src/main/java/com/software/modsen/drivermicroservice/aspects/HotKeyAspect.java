@@ -0,0 +1,26 @@
+package com.software.modsen.drivermicroservice.aspects;
+
+import com.software.modsen.drivermicroservice.annotations.HotKey;
+import com.software.modsen.drivermicroservice.cache.HotKeyTracker;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+@RequiredArgsConstructor
+public class HotKeyAspect {
+    private final HotKeyTracker hotKeyTracker;
+
+    @Before("@annotation(hotKey)")
+    public void recordAccess(JoinPoint joinPoint, HotKey hotKey) {
+        if (joinPoint.getArgs().length > 0 && joinPoint.getArgs()[0] instanceof Long id) {
+            hotKeyTracker.recordAccess(hotKey.value(), id);
+        }
+    }
+}
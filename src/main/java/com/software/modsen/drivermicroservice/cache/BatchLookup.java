@@ -0,0 +1,37 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import com.software.modsen.drivermicroservice.exceptions.TooManyIdsInBatchException;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.TOO_MANY_IDS_IN_BATCH_MESSAGE;
+
+public final class BatchLookup {
+    public static final int MAX_IDS_PER_BATCH = 500;
+
+    private BatchLookup() {
+    }
+
+    public static List<Long> distinctIds(List<Long> ids) {
+        if (ids.size() > MAX_IDS_PER_BATCH) {
+            throw new TooManyIdsInBatchException(String.format(TOO_MANY_IDS_IN_BATCH_MESSAGE, MAX_IDS_PER_BATCH));
+        }
+
+        LinkedHashSet<Long> distinctIds = new LinkedHashSet<>(ids.size());
+
+        for (Long id : ids) {
+            if (id != null) {
+                distinctIds.add(id);
+            }
+        }
+
+        return List.copyOf(distinctIds);
+    }
+
+    public static List<String> keys(String prefix, List<Long> ids) {
+        return ids.stream()
+                .map(id -> prefix + id)
+                .toList();
+    }
+}
@@ -0,0 +1,51 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class BloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashFunctions;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        long insertions = Math.max(1, expectedInsertions);
+        long optimalBits = (long) Math.ceil(-insertions * Math.log(falsePositiveProbability)
+                / (Math.log(2) * Math.log(2)));
+
+        this.bits = new AtomicLongArray(Math.toIntExact((optimalBits + 63) / 64));
+        this.bitCount = bits.length() * 64L;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / insertions * Math.log(2)));
+    }
+
+    public void put(long value) {
+        long firstHash = mix(value);
+        long secondHash = mix(firstHash) | 1;
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(firstHash + i * secondHash, bitCount);
+            bits.accumulateAndGet((int) (bit >>> 6), 1L << bit, (word, mask) -> word | mask);
+        }
+    }
+
+    public boolean mightContain(long value) {
+        long firstHash = mix(value);
+        long secondHash = mix(firstHash) | 1;
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(firstHash + i * secondHash, bitCount);
+
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,109 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import java.util.*;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+public class CacheDependencyGraph {
+    private final Map<EntityType, Node> nodes;
+
+    public enum EntityType {
+        CAR,
+        DRIVER,
+        DRIVER_RATING,
+        DRIVER_ACCOUNT
+    }
+
+    public record Invalidation(Set<String> redisKeys, List<Runnable> localEvictions) {
+    }
+
+    private CacheDependencyGraph(Map<EntityType, Node> nodes) {
+        this.nodes = nodes;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Invalidation resolve(EntityType entityType, long id) {
+        return resolve(entityType, id, true);
+    }
+
+    public Invalidation resolveDependents(EntityType entityType, long id) {
+        return resolve(entityType, id, false);
+    }
+
+    private Invalidation resolve(EntityType entityType, long id, boolean includeRoot) {
+        Set<String> redisKeys = new LinkedHashSet<>();
+        List<Runnable> localEvictions = new ArrayList<>();
+        Map<EntityType, Set<Long>> visited = new EnumMap<>(EntityType.class);
+        Deque<Map.Entry<EntityType, Long>> queue = new ArrayDeque<>();
+
+        queue.add(Map.entry(entityType, id));
+
+        while (!queue.isEmpty()) {
+            Map.Entry<EntityType, Long> entity = queue.poll();
+
+            if (!visited.computeIfAbsent(entity.getKey(), key -> new HashSet<>()).add(entity.getValue())) {
+                continue;
+            }
+
+            Node node = nodes.get(entity.getKey());
+            long entityId = entity.getValue();
+
+            if (includeRoot || entity.getKey() != entityType || entityId != id) {
+                for (LongFunction<Collection<String>> keys : node.keys) {
+                    redisKeys.addAll(keys.apply(entityId));
+                }
+
+                for (LongConsumer localEviction : node.localEvictions) {
+                    localEvictions.add(() -> localEviction.accept(entityId));
+                }
+            }
+
+            node.dependents.forEach((dependentType, dependentIds) -> {
+                for (long dependentId : dependentIds.apply(entityId)) {
+                    queue.add(Map.entry(dependentType, dependentId));
+                }
+            });
+        }
+
+        return new Invalidation(redisKeys, localEvictions);
+    }
+
+    private static class Node {
+        private final List<LongFunction<Collection<String>>> keys = new ArrayList<>();
+        private final List<LongConsumer> localEvictions = new ArrayList<>();
+        private final Map<EntityType, LongFunction<Collection<Long>>> dependents = new EnumMap<>(EntityType.class);
+    }
+
+    public static class Builder {
+        private final Map<EntityType, Node> nodes = new EnumMap<>(EntityType.class);
+
+        private Builder() {
+            for (EntityType entityType : EntityType.values()) {
+                nodes.put(entityType, new Node());
+            }
+        }
+
+        public Builder keys(EntityType entityType, LongFunction<Collection<String>> keys) {
+            nodes.get(entityType).keys.add(keys);
+            return this;
+        }
+
+        public Builder localEviction(EntityType entityType, LongConsumer localEviction) {
+            nodes.get(entityType).localEvictions.add(localEviction);
+            return this;
+        }
+
+        public Builder dependent(EntityType entityType, EntityType dependentType,
+                                 LongFunction<Collection<Long>> dependentIds) {
+            nodes.get(entityType).dependents.put(dependentType, dependentIds);
+            return this;
+        }
+
+        public CacheDependencyGraph build() {
+            return new CacheDependencyGraph(nodes);
+        }
+    }
+}
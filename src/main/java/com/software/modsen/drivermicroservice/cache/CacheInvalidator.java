@@ -0,0 +1,28 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import com.software.modsen.drivermicroservice.services.RedisService;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class CacheInvalidator {
+    private CacheDependencyGraph cacheDependencyGraph;
+    private RedisService redisService;
+    private TransactionalCacheWriter cacheWriter;
+
+    public void invalidate(CacheDependencyGraph.EntityType entityType, long id) {
+        evictAfterCommit(cacheDependencyGraph.resolve(entityType, id));
+    }
+
+    public void invalidateDependents(CacheDependencyGraph.EntityType entityType, long id) {
+        evictAfterCommit(cacheDependencyGraph.resolveDependents(entityType, id));
+    }
+
+    private void evictAfterCommit(CacheDependencyGraph.Invalidation invalidation) {
+        cacheWriter.afterCommit(() -> {
+            redisService.invalidateCache(invalidation.redisKeys());
+            invalidation.localEvictions().forEach(Runnable::run);
+        });
+    }
+}
@@ -0,0 +1,112 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import lombok.Getter;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
+
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+public class CacheOperation {
+    @Getter
+    private final String namespace;
+    private final Expression keyExpression;
+    private final int keyParameterIndex;
+    private final String[] parameterNames;
+    private final String[] indexedParameterNames;
+    @Getter
+    private final long ttl;
+    @Getter
+    private final TimeUnit timeUnit;
+    private final long refreshThresholdMillis;
+
+    public CacheOperation(String namespace, Expression keyExpression, String[] parameterNames,
+                          long ttl, TimeUnit timeUnit, double refreshAheadFactor) {
+        this.namespace = namespace;
+        this.keyExpression = keyExpression;
+        this.keyParameterIndex = keyParameterIndex(keyExpression, parameterNames);
+        this.parameterNames = parameterNames;
+        this.indexedParameterNames = new String[parameterNames.length];
+        this.ttl = ttl;
+        this.timeUnit = timeUnit;
+        this.refreshThresholdMillis = refreshAheadFactor > 0 && refreshAheadFactor < 1
+                ? (long) (timeUnit.toMillis(ttl) * (1 - refreshAheadFactor))
+                : 0;
+
+        for (int i = 0; i < parameterNames.length; i++) {
+            indexedParameterNames[i] = "p" + i;
+        }
+    }
+
+    public boolean isRefreshAhead() {
+        return refreshThresholdMillis > 0;
+    }
+
+    public boolean shouldRefresh(long remainingTtlMillis) {
+        return remainingTtlMillis >= 0 && remainingTtlMillis < refreshThresholdMillis;
+    }
+
+    public String key(Object[] args) {
+        return key(args, null);
+    }
+
+    public String key(Object[] args, Object result) {
+        Object key;
+
+        if (keyParameterIndex >= 0) {
+            key = args[keyParameterIndex];
+        } else if (keyExpression == null) {
+            key = defaultKey(args);
+        } else {
+            key = keyExpression.getValue(context(args, result));
+        }
+
+        return key == null ? null : namespace + ":" + key;
+    }
+
+    private SimpleEvaluationContext context(Object[] args, Object result) {
+        SimpleEvaluationContext context = SimpleEvaluationContext.forReadOnlyDataBinding().build();
+
+        for (int i = 0; i < args.length; i++) {
+            context.setVariable(indexedParameterNames[i], args[i]);
+
+            if (parameterNames[i] != null) {
+                context.setVariable(parameterNames[i], args[i]);
+            }
+        }
+
+        context.setVariable("result", result);
+
+        return context;
+    }
+
+    private static int keyParameterIndex(Expression keyExpression, String[] parameterNames) {
+        if (keyExpression == null) {
+            return -1;
+        }
+
+        String expression = keyExpression.getExpressionString().trim();
+
+        for (int i = 0; i < parameterNames.length; i++) {
+            if (expression.equals("#p" + i) || expression.equals("#" + parameterNames[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static Object defaultKey(Object[] args) {
+        if (args.length == 1) {
+            return args[0];
+        }
+
+        StringJoiner key = new StringJoiner(",");
+
+        for (Object arg : args) {
+            key.add(String.valueOf(arg));
+        }
+
+        return key.toString();
+    }
+}
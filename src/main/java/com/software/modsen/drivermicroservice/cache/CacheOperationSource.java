@@ -0,0 +1,92 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import com.software.modsen.drivermicroservice.annotations.CacheableDeleteMethod;
+import com.software.modsen.drivermicroservice.annotations.CacheableMethod;
+import com.software.modsen.drivermicroservice.annotations.CacheableUpdateMethod;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class CacheOperationSource {
+    private final SpelExpressionParser parser = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, CacheOperationSource.class.getClassLoader()));
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final ConcurrentMap<Method, CacheOperation> cacheableOperations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Method, List<CacheOperation>> updateOperations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Method, List<CacheOperation>> deleteOperations = new ConcurrentHashMap<>();
+
+    public CacheOperation getCacheableOperation(Method method) {
+        CacheOperation operation = cacheableOperations.get(method);
+
+        if (operation != null) {
+            return operation;
+        }
+
+        return cacheableOperations.computeIfAbsent(method, key -> {
+            CacheableMethod annotation = AnnotatedElementUtils.findMergedAnnotation(method, CacheableMethod.class);
+
+            if (annotation == null) {
+                throw new IllegalStateException("Method " + method + " is not annotated with @CacheableMethod.");
+            }
+
+            return createOperation(method, annotation.namespace(), annotation.key(),
+                    annotation.ttl(), annotation.timeUnit(), annotation.refreshAheadFactor());
+        });
+    }
+
+    public List<CacheOperation> getUpdateOperations(Method method) {
+        List<CacheOperation> operations = updateOperations.get(method);
+
+        if (operations != null) {
+            return operations;
+        }
+
+        return updateOperations.computeIfAbsent(method, key ->
+                AnnotatedElementUtils.findMergedRepeatableAnnotations(method, CacheableUpdateMethod.class).stream()
+                        .map(annotation -> createOperation(method, annotation.namespace(), annotation.key(),
+                                annotation.ttl(), annotation.timeUnit(), 0))
+                        .toList());
+    }
+
+    public List<CacheOperation> getDeleteOperations(Method method) {
+        List<CacheOperation> operations = deleteOperations.get(method);
+
+        if (operations != null) {
+            return operations;
+        }
+
+        return deleteOperations.computeIfAbsent(method, key ->
+                AnnotatedElementUtils.findMergedRepeatableAnnotations(method, CacheableDeleteMethod.class).stream()
+                        .map(annotation -> createOperation(method, annotation.namespace(), annotation.key(),
+                                0, TimeUnit.MILLISECONDS, 0))
+                        .toList());
+    }
+
+    private CacheOperation createOperation(Method method, String namespace, String key, long ttl, TimeUnit timeUnit,
+                                           double refreshAheadFactor) {
+        String[] parameterNames = parameterNameDiscoverer.getParameterNames(method);
+
+        if (parameterNames == null) {
+            parameterNames = new String[method.getParameterCount()];
+        }
+
+        return new CacheOperation(
+                namespace.isEmpty() ? method.getDeclaringClass().getSimpleName() + "." + method.getName() : namespace,
+                key.isEmpty() ? null : parser.parseExpression(key),
+                parameterNames,
+                ttl,
+                timeUnit,
+                refreshAheadFactor);
+    }
+}
@@ -0,0 +1,95 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import com.software.modsen.drivermicroservice.services.DriverAccountService;
+import com.software.modsen.drivermicroservice.services.DriverRatingService;
+import com.software.modsen.drivermicroservice.services.DriverService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "cache.warm-up", name = "enabled", havingValue = "true")
+public class CacheWarmUpRunner implements ApplicationRunner {
+    private final HotKeyTracker hotKeyTracker;
+    private final Map<HotKeyTracker.KeyType, LongConsumer> loaders;
+    private final String source;
+    private final int batchSize;
+    private final int parallelism;
+    private final long deadlineMillis;
+
+    public CacheWarmUpRunner(HotKeyTracker hotKeyTracker,
+                             DriverService driverService,
+                             DriverRatingService driverRatingService,
+                             DriverAccountService driverAccountService,
+                             @Value("${cache.warm-up.source:snapshot}") String source,
+                             @Value("${cache.warm-up.batch-size:100}") int batchSize,
+                             @Value("${cache.warm-up.parallelism:4}") int parallelism,
+                             @Value("${cache.warm-up.deadline-ms:60000}") long deadlineMillis) {
+        this.hotKeyTracker = hotKeyTracker;
+        this.loaders = Map.of(
+                HotKeyTracker.KeyType.DRIVER, driverService::getDriverById,
+                HotKeyTracker.KeyType.DRIVER_RATING, driverRatingService::getDriverRatingById,
+                HotKeyTracker.KeyType.DRIVER_ACCOUNT, driverAccountService::getDriverAccountById);
+        this.source = source;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.deadlineMillis = deadlineMillis;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+        Map<HotKeyTracker.KeyType, List<Long>> hotIds = source.equals("database")
+                ? hotKeyTracker.readLatestIds()
+                : hotKeyTracker.readSnapshot();
+        AtomicLong loadedKeys = new AtomicLong();
+        AtomicLong failedKeys = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+
+        hotIds.forEach((keyType, ids) -> {
+            for (int from = 0; from < ids.size(); from += batchSize) {
+                List<Long> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+
+                executor.submit(() -> loadBatch(loaders.get(keyType), batch, loadedKeys, failedKeys));
+            }
+        });
+
+        executor.shutdown();
+
+        if (!executor.awaitTermination(deadlineMillis, TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+            log.warn("Cache warm-up deadline of {} ms passed, accepting traffic with partially warmed caches.",
+                    deadlineMillis);
+        }
+
+        log.info("Cache warm-up from {} loaded {} keys, {} failed, in {} ms.", source, loadedKeys.get(),
+                failedKeys.get(), System.currentTimeMillis() - startTime);
+    }
+
+    private static void loadBatch(LongConsumer loader, List<Long> ids, AtomicLong loadedKeys, AtomicLong failedKeys) {
+        for (long id : ids) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+
+            try {
+                loader.accept(id);
+                loadedKeys.incrementAndGet();
+            } catch (RuntimeException exception) {
+                failedKeys.incrementAndGet();
+            }
+        }
+    }
+}
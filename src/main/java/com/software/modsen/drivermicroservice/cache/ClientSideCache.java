@@ -0,0 +1,226 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.lettuce.core.*;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.support.caching.CacheAccessor;
+import io.lettuce.core.support.caching.CacheFrontend;
+import io.lettuce.core.support.caching.ClientSideCaching;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class ClientSideCache {
+    private final RedisProperties redisProperties;
+    private final RedisSerializer<Object> cacheValueSerializer;
+    private final boolean enabled;
+    private final Cache<String, Object> trackedValues;
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter fallbacks;
+    private final Counter invalidations;
+    private RedisClient redisClient;
+    private StatefulRedisConnection<String, Object> connection;
+    private volatile CacheFrontend<String, Object> frontend;
+    private volatile boolean tracking;
+
+    public ClientSideCache(RedisProperties redisProperties,
+                           RedisSerializer<Object> cacheValueSerializer,
+                           MeterRegistry meterRegistry,
+                           @Value("${cache.client-side.enabled:false}") boolean enabled,
+                           @Value("${cache.client-side.maximum-size:10000}") long maximumSize) {
+        this.redisProperties = redisProperties;
+        this.cacheValueSerializer = cacheValueSerializer;
+        this.enabled = enabled;
+        this.trackedValues = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+        this.localHits = getsCounter(meterRegistry, "hit");
+        this.localMisses = getsCounter(meterRegistry, "miss");
+        this.fallbacks = getsCounter(meterRegistry, "fallback");
+        this.invalidations = Counter.builder("cache.client.side.invalidations")
+                .register(meterRegistry);
+
+        Gauge.builder("cache.client.side.hit.ratio", () -> {
+                    double requests = localHits.count() + localMisses.count();
+                    return requests == 0 ? 0 : localHits.count() / requests;
+                })
+                .register(meterRegistry);
+        Gauge.builder("cache.client.side.size", trackedValues, Cache::estimatedSize)
+                .register(meterRegistry);
+        Gauge.builder("cache.client.side.available", () -> isAvailable() ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        if (redisProperties.getCluster() != null && redisProperties.getCluster().getNodes() != null) {
+            log.warn("Redis client-side caching is not supported in cluster mode, using plain reads.");
+            return;
+        }
+
+        try {
+            redisClient = RedisClient.create();
+            redisClient.setOptions(ClientOptions.builder()
+                    .protocolVersion(ProtocolVersion.RESP3)
+                    .build());
+            connection = redisClient.connect(new SerializerCodec(cacheValueSerializer), redisUri());
+            connection.addListener(new TrackingStateListener());
+
+            ClientSideCaching<String, Object> clientSideCaching = (ClientSideCaching<String, Object>)
+                    ClientSideCaching.enable(CacheAccessor.forMap(trackedValues.asMap()), connection,
+                            TrackingArgs.Builder.enabled());
+            clientSideCaching.addInvalidationListener(key -> invalidations.increment());
+
+            frontend = clientSideCaching;
+            tracking = true;
+        } catch (RedisException exception) {
+            log.warn("Cannot enable Redis client-side caching, using plain reads: {}", exception.getMessage());
+            shutdown();
+        }
+    }
+
+    public boolean isAvailable() {
+        return frontend != null && tracking;
+    }
+
+    public Object get(String key, Function<String, Object> fallback) {
+        if (!isAvailable()) {
+            if (enabled) {
+                fallbacks.increment();
+            }
+
+            return fallback.apply(key);
+        }
+
+        Object value = trackedValues.getIfPresent(key);
+
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+
+        localMisses.increment();
+
+        try {
+            return frontend.get(key);
+        } catch (RedisException exception) {
+            log.warn("Redis client-side cache read failed, using plain read: {}", exception.getMessage());
+            stopTracking();
+            fallbacks.increment();
+
+            return fallback.apply(key);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        tracking = false;
+        frontend = null;
+
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+
+        if (redisClient != null) {
+            redisClient.shutdown();
+            redisClient = null;
+        }
+    }
+
+    private void stopTracking() {
+        tracking = false;
+        trackedValues.invalidateAll();
+    }
+
+    private RedisURI redisUri() {
+        RedisURI.Builder builder;
+
+        if (redisProperties.getSentinel() != null && redisProperties.getSentinel().getMaster() != null) {
+            builder = RedisURI.builder();
+            builder.withSentinelMasterId(redisProperties.getSentinel().getMaster());
+            redisProperties.getSentinel().getNodes().forEach(node -> builder.withSentinel(
+                    node.split(":")[0], Integer.parseInt(node.split(":")[1])));
+        } else {
+            builder = RedisURI.Builder.redis(redisProperties.getHost(), redisProperties.getPort());
+        }
+
+        if (redisProperties.getPassword() != null) {
+            builder.withPassword(redisProperties.getPassword().toCharArray());
+        }
+
+        return builder.build();
+    }
+
+    private static Counter getsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.client.side.gets")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private class TrackingStateListener implements RedisConnectionStateListener {
+        @Override
+        public void onRedisDisconnected(RedisChannelHandler<?, ?> connection) {
+            stopTracking();
+        }
+
+        @Override
+        public void onRedisConnected(RedisChannelHandler<?, ?> redisConnection, SocketAddress address) {
+            StatefulRedisConnection<String, Object> trackingConnection = connection;
+
+            if (trackingConnection == null || tracking) {
+                return;
+            }
+
+            trackingConnection.async().clientTracking(TrackingArgs.Builder.enabled())
+                    .thenRun(() -> tracking = true);
+        }
+    }
+
+    private record SerializerCodec(RedisSerializer<Object> serializer) implements RedisCodec<String, Object> {
+        @Override
+        public String decodeKey(ByteBuffer bytes) {
+            return StringCodec.UTF8.decodeKey(bytes);
+        }
+
+        @Override
+        public Object decodeValue(ByteBuffer bytes) {
+            byte[] value = new byte[bytes.remaining()];
+            bytes.get(value);
+
+            return serializer.deserialize(value);
+        }
+
+        @Override
+        public ByteBuffer encodeKey(String key) {
+            return StringCodec.UTF8.encodeKey(key);
+        }
+
+        @Override
+        public ByteBuffer encodeValue(Object value) {
+            return ByteBuffer.wrap(serializer.serialize(value));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.software.modsen.drivermicroservice.entities.car.Car;
+import com.software.modsen.drivermicroservice.entities.driver.Driver;
+import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccount;
+
+public class DriverAccountCache {
+    private final Cache<Long, DriverAccount> driverAccounts;
+    private final Cache<Long, Long> driverAccountIdsByDriverId;
+
+    public static final int MIN_ENTRY_WEIGHT = 320;
+
+    private static final int STRING_WEIGHT = 40;
+
+    public DriverAccountCache(Cache<Long, DriverAccount> driverAccounts,
+                              Cache<Long, Long> driverAccountIdsByDriverId) {
+        this.driverAccounts = driverAccounts;
+        this.driverAccountIdsByDriverId = driverAccountIdsByDriverId;
+    }
+
+    public DriverAccount getById(long id) {
+        return driverAccounts.getIfPresent(id);
+    }
+
+    public DriverAccount getByDriverId(long driverId) {
+        Long id = driverAccountIdsByDriverId.getIfPresent(driverId);
+
+        if (id == null) {
+            return null;
+        }
+
+        DriverAccount driverAccount = driverAccounts.getIfPresent(id);
+
+        if (driverAccount == null || driverAccount.getDriver() == null
+                || driverAccount.getDriver().getId() != driverId) {
+            return null;
+        }
+
+        return driverAccount;
+    }
+
+    public void put(DriverAccount driverAccount) {
+        driverAccounts.put(driverAccount.getId(), driverAccount);
+
+        if (driverAccount.getDriver() != null && !driverAccount.getDriver().isDeleted()) {
+            driverAccountIdsByDriverId.put(driverAccount.getDriver().getId(), driverAccount.getId());
+        }
+    }
+
+    public void invalidate(long id) {
+        driverAccounts.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        driverAccounts.invalidateAll();
+        driverAccountIdsByDriverId.invalidateAll();
+    }
+
+    public static int weigh(Long id, DriverAccount driverAccount) {
+        int weight = MIN_ENTRY_WEIGHT;
+        Driver driver = driverAccount.getDriver();
+
+        if (driver != null) {
+            weight += weigh(driver.getName()) + weigh(driver.getEmail()) + weigh(driver.getPhoneNumber());
+
+            Car car = driver.getCar();
+
+            if (car != null) {
+                weight += weigh(car.getCarNumber());
+            }
+        }
+
+        return weight;
+    }
+
+    private static int weigh(String value) {
+        return value == null ? 0 : STRING_WEIGHT + value.length();
+    }
+}
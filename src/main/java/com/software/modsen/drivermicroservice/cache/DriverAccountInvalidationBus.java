@@ -0,0 +1,142 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Slf4j
+@Component
+public class DriverAccountInvalidationBus {
+    private final DriverAccountCache driverAccountCache;
+    private final InvalidationChannel invalidationChannel;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Object publishLock = new Object();
+    private long sequence;
+    private final ConcurrentMap<String, Long> lastSequences = new ConcurrentHashMap<>();
+    private final long silenceTimeoutMillis;
+    private volatile long lastOwnMessageMillis = System.currentTimeMillis();
+    private final Counter publishedMessages;
+    private final Counter receivedMessages;
+    private final Counter gapFlushes;
+    private final Counter silenceFlushes;
+
+    private static final String MESSAGE_SEPARATOR = "|";
+    private static final int MISSED_HEARTBEATS_BEFORE_FLUSH = 3;
+
+    public DriverAccountInvalidationBus(DriverAccountCache driverAccountCache,
+                                        InvalidationChannel invalidationChannel,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${cache.invalidation.heartbeat-interval-ms:5000}")
+                                        long heartbeatIntervalMillis) {
+        this.driverAccountCache = driverAccountCache;
+        this.invalidationChannel = invalidationChannel;
+        this.silenceTimeoutMillis = heartbeatIntervalMillis * MISSED_HEARTBEATS_BEFORE_FLUSH;
+        this.publishedMessages = messageCounter(meterRegistry, "published");
+        this.receivedMessages = messageCounter(meterRegistry, "received");
+        this.gapFlushes = flushCounter(meterRegistry, "sequence_gap");
+        this.silenceFlushes = flushCounter(meterRegistry, "channel_silent");
+
+        invalidationChannel.subscribe(this::onMessage);
+    }
+
+    public void invalidate(long id) {
+        driverAccountCache.invalidate(id);
+        publishChange(id);
+    }
+
+    public void publishChange(long id) {
+        synchronized (publishLock) {
+            publish(++sequence, String.valueOf(id));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        if (System.currentTimeMillis() - lastOwnMessageMillis > silenceTimeoutMillis) {
+            log.warn("No driver account invalidation messages received for {} ms, flushing local cache.",
+                    silenceTimeoutMillis);
+            flush(silenceFlushes);
+            lastOwnMessageMillis = System.currentTimeMillis();
+        }
+
+        synchronized (publishLock) {
+            publish(sequence, "");
+        }
+    }
+
+    private void publish(long messageSequence, String id) {
+        try {
+            invalidationChannel.publish(instanceId + MESSAGE_SEPARATOR + messageSequence + MESSAGE_SEPARATOR + id);
+            publishedMessages.increment();
+        } catch (RuntimeException exception) {
+            log.warn("Cannot publish driver account invalidation: {}", exception.getMessage());
+        }
+    }
+
+    private void onMessage(String message) {
+        String[] parts = message.split("\\" + MESSAGE_SEPARATOR, 3);
+
+        if (parts.length != 3) {
+            return;
+        }
+
+        receivedMessages.increment();
+
+        if (instanceId.equals(parts[0])) {
+            lastOwnMessageMillis = System.currentTimeMillis();
+            return;
+        }
+
+        long messageSequence = Long.parseLong(parts[1]);
+        boolean heartbeat = parts[2].isEmpty();
+        Long lastSequence = advanceSequence(parts[0], messageSequence);
+
+        if (lastSequence != null && messageSequence > (heartbeat ? lastSequence : lastSequence + 1)) {
+            log.warn("Missed driver account invalidations from {} ({} -> {}), flushing local cache.",
+                    parts[0], lastSequence, messageSequence);
+            flush(gapFlushes);
+            return;
+        }
+
+        if (!heartbeat) {
+            driverAccountCache.invalidate(Long.parseLong(parts[2]));
+        }
+    }
+
+    private Long advanceSequence(String sender, long messageSequence) {
+        Long[] lastSequence = new Long[1];
+
+        lastSequences.compute(sender, (key, last) -> {
+            lastSequence[0] = last;
+            return last == null ? messageSequence : Math.max(last, messageSequence);
+        });
+
+        return lastSequence[0];
+    }
+
+    private void flush(Counter reason) {
+        driverAccountCache.invalidateAll();
+        reason.increment();
+    }
+
+    private static Counter messageCounter(MeterRegistry meterRegistry, String direction) {
+        return Counter.builder("cache.invalidation.messages")
+                .tag("cache", "driver_account")
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+
+    private static Counter flushCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("cache.invalidation.flushes")
+                .tag("cache", "driver_account")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,160 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class HotKeyTracker {
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<KeyType, Cache<Long, Boolean>> accessedKeys = new EnumMap<>(KeyType.class);
+    private final boolean snapshotEnabled;
+    private final Path snapshotFile;
+    private final int maxKeys;
+
+    private static final String SNAPSHOT_SEPARATOR = " ";
+
+    public enum KeyType {
+        DRIVER("""
+                SELECT id FROM driver
+                WHERE is_deleted = false
+                ORDER BY id DESC
+                LIMIT ?"""),
+        DRIVER_RATING("""
+                SELECT driver_rating.id FROM driver_rating
+                JOIN driver ON driver.id = driver_rating.driver_id
+                WHERE driver.is_deleted = false
+                ORDER BY driver_rating.id DESC
+                LIMIT ?"""),
+        DRIVER_ACCOUNT("""
+                SELECT driver_account.id FROM driver_account
+                JOIN driver ON driver.id = driver_account.driver_id
+                WHERE driver.is_deleted = false
+                ORDER BY driver_account.id DESC
+                LIMIT ?""");
+
+        private final String latestIdsQuery;
+
+        KeyType(String latestIdsQuery) {
+            this.latestIdsQuery = latestIdsQuery;
+        }
+    }
+
+    public HotKeyTracker(JdbcTemplate jdbcTemplate,
+                         @Value("${cache.warm-up.enabled:false}") boolean snapshotEnabled,
+                         @Value("${cache.warm-up.snapshot-file:hot-keys.snapshot}") String snapshotFile,
+                         @Value("${cache.warm-up.max-keys:10000}") int maxKeys) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotEnabled = snapshotEnabled;
+        this.snapshotFile = Path.of(snapshotFile);
+        this.maxKeys = maxKeys;
+
+        for (KeyType keyType : KeyType.values()) {
+            accessedKeys.put(keyType, Caffeine.newBuilder()
+                    .maximumSize(maxKeys)
+                    .executor(Runnable::run)
+                    .build());
+        }
+    }
+
+    public void recordAccess(KeyType keyType, long id) {
+        accessedKeys.get(keyType).put(id, Boolean.TRUE);
+    }
+
+    public Set<Long> hottestIds(KeyType keyType) {
+        return accessedKeys.get(keyType).policy().eviction()
+                .map(eviction -> eviction.hottest(maxKeys).keySet())
+                .orElseGet(Set::of);
+    }
+
+    @Scheduled(initialDelayString = "${cache.warm-up.snapshot-interval-ms:60000}",
+            fixedDelayString = "${cache.warm-up.snapshot-interval-ms:60000}")
+    public void writeSnapshot() {
+        if (!snapshotEnabled) {
+            return;
+        }
+
+        try {
+            Path directory = snapshotFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporaryFile = Files.createTempFile(directory, snapshotFile.getFileName().toString(), ".tmp");
+
+            try (BufferedWriter writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                for (KeyType keyType : KeyType.values()) {
+                    for (long id : hottestIds(keyType)) {
+                        writer.write(keyType.name() + SNAPSHOT_SEPARATOR + id);
+                        writer.newLine();
+                    }
+                }
+            }
+
+            Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            log.warn("Cannot write hot key snapshot {}: {}", snapshotFile, exception.getMessage());
+        }
+    }
+
+    public Map<KeyType, List<Long>> readSnapshot() {
+        Map<KeyType, List<Long>> hotIds = emptyHotIds();
+
+        if (!Files.exists(snapshotFile)) {
+            return hotIds;
+        }
+
+        try (Stream<String> lines = Files.lines(snapshotFile, StandardCharsets.UTF_8)) {
+            lines.forEach(line -> {
+                String[] parts = line.split(SNAPSHOT_SEPARATOR, 2);
+
+                try {
+                    List<Long> ids = hotIds.get(KeyType.valueOf(parts[0]));
+
+                    if (ids.size() < maxKeys) {
+                        ids.add(Long.parseLong(parts[1].trim()));
+                    }
+                } catch (RuntimeException exception) {
+                    log.warn("Skipping malformed hot key snapshot line: {}", line);
+                }
+            });
+        } catch (IOException | UncheckedIOException exception) {
+            log.warn("Cannot read hot key snapshot {}: {}", snapshotFile, exception.getMessage());
+        }
+
+        return hotIds;
+    }
+
+    public Map<KeyType, List<Long>> readLatestIds() {
+        Map<KeyType, List<Long>> hotIds = emptyHotIds();
+
+        for (KeyType keyType : KeyType.values()) {
+            hotIds.get(keyType).addAll(jdbcTemplate.queryForList(keyType.latestIdsQuery, Long.class, maxKeys));
+        }
+
+        return hotIds;
+    }
+
+    private static Map<KeyType, List<Long>> emptyHotIds() {
+        Map<KeyType, List<Long>> hotIds = new EnumMap<>(KeyType.class);
+
+        for (KeyType keyType : KeyType.values()) {
+            hotIds.put(keyType, new ArrayList<>());
+        }
+
+        return hotIds;
+    }
+}
@@ -0,0 +1,9 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import java.util.function.Consumer;
+
+public interface InvalidationChannel {
+    void publish(String message);
+
+    void subscribe(Consumer<String> listener);
+}
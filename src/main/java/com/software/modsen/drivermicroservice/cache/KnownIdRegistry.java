@@ -0,0 +1,347 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class KnownIdRegistry {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, Object> template;
+    private final Cache<String, Boolean> missingIds;
+    private final Map<IdType, KnownIds> knownIds = new EnumMap<>(IdType.class);
+    private final Map<IdType, Counter> rejectedLookups = new EnumMap<>(IdType.class);
+    private final String instanceId = UUID.randomUUID().toString();
+    private final long minExpectedInsertions;
+    private final double falsePositiveProbability;
+    private final Object publishLock = new Object();
+    private long sequence;
+    private final ConcurrentMap<String, Long> lastSequences = new ConcurrentHashMap<>();
+    private final long silenceTimeoutMillis;
+    private volatile long lastOwnMessageMillis = System.currentTimeMillis();
+    private volatile boolean channelSilent;
+    private volatile boolean rebuildRequested;
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter gapFailOpens;
+    private final Counter silenceFailOpens;
+
+    public static final String INSERTED_IDS_CHANNEL = "inserted-ids";
+    private static final String MESSAGE_SEPARATOR = "|";
+    private static final int SCAN_FETCH_SIZE = 10_000;
+    private static final int MISSED_HEARTBEATS_BEFORE_FAIL_OPEN = 3;
+
+    public enum IdType {
+        DRIVER("driver"),
+        CAR("car"),
+        DRIVER_ACCOUNT("driver_account");
+
+        private final String table;
+
+        IdType(String table) {
+            this.table = table;
+        }
+    }
+
+    public KnownIdRegistry(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           RedisTemplate<String, Object> template,
+                           RedisMessageListenerContainer listenerContainer,
+                           MeterRegistry meterRegistry,
+                           @Value("${cache.known-ids.negative-ttl-seconds:30}") long negativeTtl,
+                           @Value("${cache.known-ids.min-expected-insertions:100000}") long minExpectedInsertions,
+                           @Value("${cache.known-ids.false-positive-probability:0.01}")
+                           double falsePositiveProbability,
+                           @Value("${cache.known-ids.heartbeat-interval-ms:5000}") long heartbeatIntervalMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.template = template;
+        this.missingIds = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(negativeTtl))
+                .build();
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.silenceTimeoutMillis = heartbeatIntervalMillis * MISSED_HEARTBEATS_BEFORE_FAIL_OPEN;
+        this.gapFailOpens = failOpenCounter(meterRegistry, "sequence_gap");
+        this.silenceFailOpens = failOpenCounter(meterRegistry, "channel_silent");
+
+        for (IdType idType : IdType.values()) {
+            knownIds.put(idType, new KnownIds());
+            rejectedLookups.put(idType, Counter.builder("cache.known.ids.rejected")
+                    .tag("type", idType.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+
+        listenerContainer.addMessageListener(this::onInsertedIds, new ChannelTopic(INSERTED_IDS_CHANNEL));
+    }
+
+    public boolean mightExist(IdType idType, long id) {
+        if (mightContain(idType, id)) {
+            return true;
+        }
+
+        rejectedLookups.get(idType).increment();
+
+        return false;
+    }
+
+    public boolean mightContain(IdType idType, long id) {
+        KnownIds ids = knownIds.get(idType);
+        BloomFilter filter = ids.filter;
+
+        return filter == null || id > ids.scannedMaxId || filter.mightContain(id);
+    }
+
+    public boolean isKnownMissing(IdType idType, long id) {
+        return missingIds.getIfPresent(missingKey(idType, id)) != null;
+    }
+
+    public void registerMissing(IdType idType, long id) {
+        missingIds.put(missingKey(idType, id), Boolean.TRUE);
+    }
+
+    public void registerInserted(IdType idType, long id) {
+        registerInserted(idType, List.of(id));
+    }
+
+    public void registerInserted(IdType idType, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        addKnownIds(idType, ids);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addKnownIds(idType, ids);
+                    publishInsertedIds(idType, ids);
+                }
+            });
+        } else {
+            publishInsertedIds(idType, ids);
+        }
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${cache.known-ids.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        rebuildRequested = false;
+
+        for (IdType idType : IdType.values()) {
+            try {
+                rebuild(idType);
+            } catch (RuntimeException exception) {
+                log.warn("Cannot rebuild known {} ids: {}", idType.table, exception.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.known-ids.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        if (!channelSilent && System.currentTimeMillis() - lastOwnMessageMillis > silenceTimeoutMillis) {
+            log.warn("No inserted id messages received for {} ms, accepting all ids until the channel recovers.",
+                    silenceTimeoutMillis);
+            channelSilent = true;
+            failOpen(silenceFailOpens);
+        }
+
+        if (rebuildRequested && !channelSilent) {
+            rebuild();
+        }
+
+        synchronized (publishLock) {
+            publish(sequence, "", "");
+        }
+    }
+
+    private void rebuild(IdType idType) {
+        KnownIds ids = knownIds.get(idType);
+        long rebuildGeneration = generation.get();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Long rows = jdbcTemplate.queryForObject("SELECT count(*) FROM " + idType.table, Long.class);
+            BloomFilter filter = new BloomFilter(Math.max(rows * 2, minExpectedInsertions),
+                    falsePositiveProbability);
+            AtomicLong maxId = new AtomicLong();
+
+            synchronized (ids) {
+                ids.rebuilding = filter;
+            }
+
+            try {
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement("SELECT id FROM " + idType.table);
+                    statement.setFetchSize(SCAN_FETCH_SIZE);
+
+                    return statement;
+                }, resultSet -> {
+                    long id = resultSet.getLong(1);
+                    filter.put(id);
+                    maxId.accumulateAndGet(id, Math::max);
+                });
+
+                synchronized (ids) {
+                    if (rebuildGeneration != generation.get() || channelSilent) {
+                        log.info("Known {} ids rebuild discarded, inserted ids may have been missed.",
+                                idType.table);
+                        return;
+                    }
+
+                    ids.scannedMaxId = maxId.get();
+                    ids.filter = filter;
+                }
+
+                log.info("Known {} ids rebuilt from {} rows.", idType.table, rows);
+            } finally {
+                synchronized (ids) {
+                    ids.rebuilding = null;
+                }
+            }
+        });
+    }
+
+    private void addKnownIds(IdType idType, Collection<Long> insertedIds) {
+        KnownIds ids = knownIds.get(idType);
+
+        synchronized (ids) {
+            for (long id : insertedIds) {
+                if (ids.filter != null) {
+                    ids.filter.put(id);
+                }
+
+                if (ids.rebuilding != null) {
+                    ids.rebuilding.put(id);
+                }
+            }
+        }
+
+        evictMissingIds(idType, insertedIds);
+    }
+
+    private void evictMissingIds(IdType idType, Collection<Long> ids) {
+        for (long id : ids) {
+            missingIds.invalidate(missingKey(idType, id));
+        }
+    }
+
+    private void publishInsertedIds(IdType idType, Collection<Long> ids) {
+        synchronized (publishLock) {
+            publish(++sequence, idType.name(), ids.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        }
+    }
+
+    private void publish(long messageSequence, String idType, String ids) {
+        try {
+            template.convertAndSend(INSERTED_IDS_CHANNEL, instanceId + MESSAGE_SEPARATOR + messageSequence
+                    + MESSAGE_SEPARATOR + idType + MESSAGE_SEPARATOR + ids);
+        } catch (RuntimeException exception) {
+            log.warn("Cannot publish inserted ids: {}", exception.getMessage());
+        }
+    }
+
+    private void onInsertedIds(Message message, byte[] pattern) {
+        Object insertedIds = template.getValueSerializer().deserialize(message.getBody());
+
+        if (!(insertedIds instanceof String payload)) {
+            return;
+        }
+
+        String[] parts = payload.split("\\" + MESSAGE_SEPARATOR, 4);
+
+        if (parts.length != 4) {
+            return;
+        }
+
+        if (instanceId.equals(parts[0])) {
+            lastOwnMessageMillis = System.currentTimeMillis();
+
+            if (channelSilent) {
+                channelSilent = false;
+                rebuildRequested = true;
+            }
+
+            return;
+        }
+
+        long messageSequence = Long.parseLong(parts[1]);
+        boolean heartbeat = parts[2].isEmpty();
+        Long lastSequence = advanceSequence(parts[0], messageSequence);
+
+        if (lastSequence != null && messageSequence > (heartbeat ? lastSequence : lastSequence + 1)) {
+            log.warn("Missed inserted id messages from {} ({} -> {}), accepting all ids until rebuilt.",
+                    parts[0], lastSequence, messageSequence);
+            failOpen(gapFailOpens);
+            rebuildRequested = true;
+        }
+
+        if (!heartbeat) {
+            addKnownIds(IdType.valueOf(parts[2]), Arrays.stream(parts[3].split(","))
+                    .map(Long::valueOf)
+                    .toList());
+        }
+    }
+
+    private Long advanceSequence(String sender, long messageSequence) {
+        Long[] lastSequence = new Long[1];
+
+        lastSequences.compute(sender, (key, last) -> {
+            lastSequence[0] = last;
+            return last == null ? messageSequence : Math.max(last, messageSequence);
+        });
+
+        return lastSequence[0];
+    }
+
+    private void failOpen(Counter reason) {
+        generation.incrementAndGet();
+
+        for (KnownIds ids : knownIds.values()) {
+            synchronized (ids) {
+                ids.filter = null;
+            }
+        }
+
+        reason.increment();
+    }
+
+    private static Counter failOpenCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("cache.known.ids.fail.opens")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static String missingKey(IdType idType, long id) {
+        return idType.name() + ":" + id;
+    }
+
+    private static class KnownIds {
+        private volatile BloomFilter filter;
+        private BloomFilter rebuilding;
+        private volatile long scannedMaxId;
+    }
+}
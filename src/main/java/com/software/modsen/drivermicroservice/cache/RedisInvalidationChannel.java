@@ -0,0 +1,35 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.function.Consumer;
+
+public class RedisInvalidationChannel implements InvalidationChannel {
+    private final RedisTemplate<String, Object> template;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String channel;
+
+    public RedisInvalidationChannel(RedisTemplate<String, Object> template,
+                                    RedisMessageListenerContainer listenerContainer,
+                                    String channel) {
+        this.template = template;
+        this.listenerContainer = listenerContainer;
+        this.channel = channel;
+    }
+
+    @Override
+    public void publish(String message) {
+        template.convertAndSend(channel, message);
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            if (template.getValueSerializer().deserialize(message.getBody()) instanceof String payload) {
+                listener.accept(payload);
+            }
+        }, new ChannelTopic(channel));
+    }
+}
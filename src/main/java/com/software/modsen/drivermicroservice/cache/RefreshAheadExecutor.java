@@ -0,0 +1,69 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.*;
+
+@Slf4j
+@Component
+public class RefreshAheadExecutor {
+    private final ThreadPoolExecutor executor;
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+    private final Counter scheduledRefreshes;
+    private final Counter rejectedRefreshes;
+    private final Counter failedRefreshes;
+
+    public RefreshAheadExecutor(MeterRegistry meterRegistry,
+                                @Value("${cache.refresh-ahead.threads:2}") int threads,
+                                @Value("${cache.refresh-ahead.queue-capacity:100}") int queueCapacity) {
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-ahead");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.scheduledRefreshes = refreshCounter(meterRegistry, "scheduled");
+        this.rejectedRefreshes = refreshCounter(meterRegistry, "rejected");
+        this.failedRefreshes = refreshCounter(meterRegistry, "failed");
+    }
+
+    public void refresh(String key, Runnable reload) {
+        if (!refreshingKeys.add(key)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    reload.run();
+                } catch (RuntimeException exception) {
+                    failedRefreshes.increment();
+                    log.warn("Cannot refresh cache entry {}: {}", key, exception.getMessage());
+                } finally {
+                    refreshingKeys.remove(key);
+                }
+            });
+            scheduledRefreshes.increment();
+        } catch (RejectedExecutionException exception) {
+            refreshingKeys.remove(key);
+            rejectedRefreshes.increment();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("cache.refresh.ahead")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,178 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class SingleFlightLoader {
+    private final RedisTemplate<String, Object> template;
+    private final boolean leaseEnabled;
+    private final Duration leaseTime;
+    private final long leaseWaitMillis;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+    private final Counter loads;
+    private final Counter localCoalescedLoads;
+    private final Counter remoteCoalescedLoads;
+    private final Counter leaseTimeouts;
+    private final Counter releasedLeases;
+
+    private static final long LEASE_POLL_MILLIS = 20;
+
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0""", Long.class);
+
+    public SingleFlightLoader(RedisTemplate<String, Object> template,
+                              MeterRegistry meterRegistry,
+                              @Value("${cache.single-flight.lease-enabled:true}") boolean leaseEnabled,
+                              @Value("${cache.single-flight.lease-ms:2000}") long leaseMillis,
+                              @Value("${cache.single-flight.lease-wait-ms:1000}") long leaseWaitMillis) {
+        this.template = template;
+        this.leaseEnabled = leaseEnabled;
+        this.leaseTime = Duration.ofMillis(leaseMillis);
+        this.leaseWaitMillis = leaseWaitMillis;
+        this.loads = loadCounter(meterRegistry, "loaded");
+        this.localCoalescedLoads = loadCounter(meterRegistry, "coalesced_local");
+        this.remoteCoalescedLoads = loadCounter(meterRegistry, "coalesced_remote");
+        this.leaseTimeouts = loadCounter(meterRegistry, "lease_timeout");
+        this.releasedLeases = loadCounter(meterRegistry, "lease_released");
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T load(String key, Supplier<T> loader) {
+        CompletableFuture<Object> inFlightLoad = new CompletableFuture<>();
+        CompletableFuture<Object> runningLoad = inFlightLoads.putIfAbsent(key, inFlightLoad);
+
+        if (runningLoad != null) {
+            localCoalescedLoads.increment();
+            return (T) await(runningLoad);
+        }
+
+        try {
+            T value = leaseEnabled ? loadUnderLease(key, loader) : loadNow(loader);
+            inFlightLoad.complete(value);
+
+            return value;
+        } catch (RuntimeException exception) {
+            inFlightLoad.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlightLoads.remove(key, inFlightLoad);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T loadUnderLease(String key, Supplier<T> loader) {
+        String leaseKey = "lease:" + key;
+        String token = UUID.randomUUID().toString();
+
+        if (acquireLease(leaseKey, token)) {
+            try {
+                return loadNow(loader);
+            } finally {
+                releaseLease(leaseKey, token);
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + leaseWaitMillis;
+
+        while (System.currentTimeMillis() < deadline) {
+            List<Object> values = pollValueAndLease(key, leaseKey);
+
+            if (values.get(0) != null) {
+                remoteCoalescedLoads.increment();
+                return (T) values.get(0);
+            }
+
+            if (values.get(1) == null) {
+                releasedLeases.increment();
+                return loadNow(loader);
+            }
+
+            try {
+                Thread.sleep(LEASE_POLL_MILLIS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        leaseTimeouts.increment();
+
+        return loadNow(loader);
+    }
+
+    private <T> T loadNow(Supplier<T> loader) {
+        loads.increment();
+
+        return loader.get();
+    }
+
+    private List<Object> pollValueAndLease(String key, String leaseKey) {
+        try {
+            List<Object> values = template.opsForValue().multiGet(List.of(key, leaseKey));
+
+            if (values != null && values.size() == 2) {
+                return values;
+            }
+        } catch (RuntimeException exception) {
+            log.warn("Cannot poll cache load lease {}: {}", leaseKey, exception.getMessage());
+        }
+
+        return Arrays.asList(null, null);
+    }
+
+    private boolean acquireLease(String leaseKey, String token) {
+        try {
+            return Boolean.TRUE.equals(template.opsForValue().setIfAbsent(leaseKey, token, leaseTime));
+        } catch (RuntimeException exception) {
+            log.warn("Cannot acquire cache load lease {}: {}", leaseKey, exception.getMessage());
+            return true;
+        }
+    }
+
+    private void releaseLease(String leaseKey, String token) {
+        try {
+            template.execute(RELEASE_LEASE_SCRIPT, List.of(leaseKey), token);
+        } catch (RuntimeException exception) {
+            log.warn("Cannot release cache load lease {}: {}", leaseKey, exception.getMessage());
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> runningLoad) {
+        try {
+            return runningLoad.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw exception;
+        }
+    }
+
+    private static Counter loadCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("cache.single.flight.loads")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
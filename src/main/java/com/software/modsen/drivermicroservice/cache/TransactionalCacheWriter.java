@@ -0,0 +1,83 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.software.modsen.drivermicroservice.services.RedisService;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+public class TransactionalCacheWriter {
+    private RedisService redisService;
+
+    public void saveToCache(String key, Object object, long ttl, TimeUnit timeUnit) {
+        afterCommit(() -> redisService.saveToCache(key, object, ttl, timeUnit));
+    }
+
+    public void invalidateCache(String key) {
+        afterCommit(() -> redisService.invalidateCache(key));
+    }
+
+    public <K, V> void put(Cache<K, V> cache, K key, V value) {
+        afterCommit(() -> cache.put(key, value));
+    }
+
+    public <K, V> void invalidate(Cache<K, V> cache, K key) {
+        afterCommit(() -> cache.invalidate(key));
+    }
+
+    public void afterCommit(Runnable cacheWrite) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cacheWrite.run();
+            return;
+        }
+
+        PendingCacheWrites pendingCacheWrites = (PendingCacheWrites) TransactionSynchronizationManager.getResource(this);
+
+        if (pendingCacheWrites == null) {
+            pendingCacheWrites = new PendingCacheWrites();
+            TransactionSynchronizationManager.bindResource(this, pendingCacheWrites);
+            TransactionSynchronizationManager.registerSynchronization(pendingCacheWrites);
+        }
+
+        pendingCacheWrites.cacheWrites.add(cacheWrite);
+    }
+
+    private class PendingCacheWrites implements TransactionSynchronization {
+        private final List<Runnable> cacheWrites = new ArrayList<>();
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(TransactionalCacheWriter.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(TransactionalCacheWriter.this, this);
+        }
+
+        @Override
+        public void afterCommit() {
+            for (Runnable cacheWrite : cacheWrites) {
+                try {
+                    cacheWrite.run();
+                } catch (RuntimeException exception) {
+                    log.warn("Cannot apply cache write after commit: {}", exception.getMessage());
+                }
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TransactionalCacheWriter.this);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.software.modsen.drivermicroservice.cache.codec;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BinaryRedisSerializer implements RedisSerializer<Object> {
+    private final Map<Class<?>, CacheValueCodec<?>> codecsByType = new HashMap<>();
+    private final CacheValueCodec<?>[] codecsByTypeId = new CacheValueCodec<?>[Byte.MAX_VALUE + 1];
+    private final RedisSerializer<Object> fallbackSerializer;
+    private final int compressionThreshold;
+    private final boolean binaryEncodingEnabled;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    private static final byte MAGIC = (byte) 0xB1;
+    private static final byte FALLBACK_TYPE_ID = 0;
+    private static final byte COMPRESSED_FLAG = 1;
+    private static final int HEADER_SIZE = 4;
+
+    public BinaryRedisSerializer(List<CacheValueCodec<?>> codecs,
+                                 RedisSerializer<Object> fallbackSerializer,
+                                 int compressionThreshold) {
+        this(codecs, fallbackSerializer, compressionThreshold, true);
+    }
+
+    public BinaryRedisSerializer(List<CacheValueCodec<?>> codecs,
+                                 RedisSerializer<Object> fallbackSerializer,
+                                 int compressionThreshold,
+                                 boolean binaryEncodingEnabled) {
+        this.fallbackSerializer = fallbackSerializer;
+        this.compressionThreshold = compressionThreshold;
+        this.binaryEncodingEnabled = binaryEncodingEnabled;
+        LZ4Factory lz4Factory = LZ4Factory.fastestInstance();
+        this.compressor = lz4Factory.fastCompressor();
+        this.decompressor = lz4Factory.fastDecompressor();
+
+        for (CacheValueCodec<?> codec : codecs) {
+            if (codec.typeId() <= FALLBACK_TYPE_ID) {
+                throw new IllegalArgumentException("Codec " + codec.getClass().getSimpleName()
+                        + " must have positive type id.");
+            }
+
+            if (codecsByTypeId[codec.typeId()] != null) {
+                throw new IllegalArgumentException("Codecs " + codec.getClass().getSimpleName() + " and "
+                        + codecsByTypeId[codec.typeId()].getClass().getSimpleName() + " have the same type id.");
+            }
+
+            codecsByTypeId[codec.typeId()] = codec;
+            codecsByType.put(codec.type(), codec);
+        }
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+
+        CacheValueCodec<?> codec = binaryEncodingEnabled ? codecsByType.get(value.getClass()) : null;
+        byte typeId = codec == null ? FALLBACK_TYPE_ID : codec.typeId();
+        byte version = codec == null ? 0 : codec.version();
+        byte[] payload = codec == null ? fallbackSerializer.serialize(value) : encode(codec, value);
+
+        if (payload.length >= compressionThreshold) {
+            byte[] compressed = new byte[compressor.maxCompressedLength(payload.length)];
+            int compressedLength = compressor.compress(payload, 0, payload.length, compressed, 0);
+
+            return ByteBuffer.allocate(HEADER_SIZE + Integer.BYTES + compressedLength)
+                    .put(MAGIC).put(COMPRESSED_FLAG).put(typeId).put(version)
+                    .putInt(payload.length)
+                    .put(compressed, 0, compressedLength)
+                    .array();
+        }
+
+        if (codec == null) {
+            return payload;
+        }
+
+        return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .put(MAGIC).put((byte) 0).put(typeId).put(version)
+                .put(payload)
+                .array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        if (bytes[0] != MAGIC) {
+            return fallbackSerializer.deserialize(bytes);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.get();
+        boolean compressed = (buffer.get() & COMPRESSED_FLAG) != 0;
+        byte typeId = buffer.get();
+        byte version = buffer.get();
+        byte[] payload;
+
+        if (compressed) {
+            payload = new byte[buffer.getInt()];
+            decompressor.decompress(bytes, buffer.position(), payload, 0, payload.length);
+        } else {
+            payload = new byte[buffer.remaining()];
+            buffer.get(payload);
+        }
+
+        if (typeId == FALLBACK_TYPE_ID) {
+            return fallbackSerializer.deserialize(payload);
+        }
+
+        CacheValueCodec<?> codec = typeId > 0 ? codecsByTypeId[typeId] : null;
+
+        if (codec == null) {
+            throw new SerializationException("Unknown cache value type id " + typeId + ".");
+        }
+
+        try {
+            return codec.read(new DataInputStream(new ByteArrayInputStream(payload)), version);
+        } catch (IOException exception) {
+            throw new SerializationException("Cannot decode " + codec.type().getSimpleName() + ".", exception);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> byte[] encode(CacheValueCodec<T> codec, Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            codec.write(output, (T) value);
+        } catch (IOException exception) {
+            throw new SerializationException("Cannot encode " + codec.type().getSimpleName() + ".", exception);
+        }
+
+        return bytes.toByteArray();
+    }
+}
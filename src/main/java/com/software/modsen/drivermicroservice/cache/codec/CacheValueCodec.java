@@ -0,0 +1,39 @@
+package com.software.modsen.drivermicroservice.cache.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+public interface CacheValueCodec<T> {
+    Class<T> type();
+
+    byte typeId();
+
+    byte version();
+
+    void write(DataOutput output, T value) throws IOException;
+
+    T read(DataInput input, byte version) throws IOException;
+
+    static void writeNullableString(DataOutput output, String value) throws IOException {
+        output.writeBoolean(value != null);
+
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+
+    static String readNullableString(DataInput input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+
+    static void writeNullableEnum(DataOutput output, Enum<?> value) throws IOException {
+        writeNullableString(output, value == null ? null : value.name());
+    }
+
+    static <E extends Enum<E>> E readNullableEnum(DataInput input, Class<E> type) throws IOException {
+        String name = readNullableString(input);
+
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+}
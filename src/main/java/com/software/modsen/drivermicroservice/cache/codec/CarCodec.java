@@ -0,0 +1,49 @@
+package com.software.modsen.drivermicroservice.cache.codec;
+
+import com.software.modsen.drivermicroservice.entities.car.Car;
+import com.software.modsen.drivermicroservice.entities.car.CarBrand;
+import com.software.modsen.drivermicroservice.entities.car.CarColor;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import static com.software.modsen.drivermicroservice.cache.codec.CacheValueCodec.*;
+
+@Component
+public class CarCodec implements CacheValueCodec<Car> {
+    @Override
+    public Class<Car> type() {
+        return Car.class;
+    }
+
+    @Override
+    public byte typeId() {
+        return 2;
+    }
+
+    @Override
+    public byte version() {
+        return 1;
+    }
+
+    @Override
+    public void write(DataOutput output, Car car) throws IOException {
+        output.writeLong(car.getId());
+        writeNullableEnum(output, car.getColor());
+        writeNullableEnum(output, car.getBrand());
+        writeNullableString(output, car.getCarNumber());
+        output.writeBoolean(car.isDeleted());
+    }
+
+    @Override
+    public Car read(DataInput input, byte version) throws IOException {
+        return new Car(
+                input.readLong(),
+                readNullableEnum(input, CarColor.class),
+                readNullableEnum(input, CarBrand.class),
+                readNullableString(input),
+                input.readBoolean());
+    }
+}
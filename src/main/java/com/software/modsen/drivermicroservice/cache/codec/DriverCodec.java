@@ -0,0 +1,65 @@
+package com.software.modsen.drivermicroservice.cache.codec;
+
+import com.software.modsen.drivermicroservice.entities.driver.Driver;
+import com.software.modsen.drivermicroservice.entities.driver.Sex;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import static com.software.modsen.drivermicroservice.cache.codec.CacheValueCodec.*;
+
+@Component
+public class DriverCodec implements CacheValueCodec<Driver> {
+    private final CarCodec carCodec = new CarCodec();
+
+    @Override
+    public Class<Driver> type() {
+        return Driver.class;
+    }
+
+    @Override
+    public byte typeId() {
+        return 3;
+    }
+
+    @Override
+    public byte version() {
+        return 1;
+    }
+
+    @Override
+    public void write(DataOutput output, Driver driver) throws IOException {
+        output.writeLong(driver.getId());
+        writeNullableString(output, driver.getName());
+        writeNullableString(output, driver.getEmail());
+        writeNullableString(output, driver.getPhoneNumber());
+        writeNullableEnum(output, driver.getSex());
+        output.writeBoolean(driver.isDeleted());
+        output.writeBoolean(driver.getCar() != null);
+
+        if (driver.getCar() != null) {
+            output.writeByte(carCodec.version());
+            carCodec.write(output, driver.getCar());
+        }
+    }
+
+    @Override
+    public Driver read(DataInput input, byte version) throws IOException {
+        Driver driver = new Driver();
+
+        driver.setId(input.readLong());
+        driver.setName(readNullableString(input));
+        driver.setEmail(readNullableString(input));
+        driver.setPhoneNumber(readNullableString(input));
+        driver.setSex(readNullableEnum(input, Sex.class));
+        driver.setDeleted(input.readBoolean());
+
+        if (input.readBoolean()) {
+            driver.setCar(carCodec.read(input, input.readByte()));
+        }
+
+        return driver;
+    }
+}
@@ -0,0 +1,72 @@
+package com.software.modsen.drivermicroservice.cache.codec;
+
+import com.software.modsen.drivermicroservice.entities.driver.rating.DriverRating;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+@Component
+public class DriverRatingCodec implements CacheValueCodec<DriverRating> {
+    private final DriverCodec driverCodec = new DriverCodec();
+
+    @Override
+    public Class<DriverRating> type() {
+        return DriverRating.class;
+    }
+
+    @Override
+    public byte typeId() {
+        return 4;
+    }
+
+    @Override
+    public byte version() {
+        return 1;
+    }
+
+    @Override
+    public void write(DataOutput output, DriverRating driverRating) throws IOException {
+        output.writeLong(driverRating.getId());
+        output.writeBoolean(driverRating.getRatingValue() != null);
+
+        if (driverRating.getRatingValue() != null) {
+            output.writeFloat(driverRating.getRatingValue());
+        }
+
+        output.writeBoolean(driverRating.getNumberOfRatings() != null);
+
+        if (driverRating.getNumberOfRatings() != null) {
+            output.writeInt(driverRating.getNumberOfRatings());
+        }
+
+        output.writeBoolean(driverRating.getDriver() != null);
+
+        if (driverRating.getDriver() != null) {
+            output.writeByte(driverCodec.version());
+            driverCodec.write(output, driverRating.getDriver());
+        }
+    }
+
+    @Override
+    public DriverRating read(DataInput input, byte version) throws IOException {
+        DriverRating driverRating = new DriverRating();
+
+        driverRating.setId(input.readLong());
+
+        if (input.readBoolean()) {
+            driverRating.setRatingValue(input.readFloat());
+        }
+
+        if (input.readBoolean()) {
+            driverRating.setNumberOfRatings(input.readInt());
+        }
+
+        if (input.readBoolean()) {
+            driverRating.setDriver(driverCodec.read(input, input.readByte()));
+        }
+
+        return driverRating;
+    }
+}
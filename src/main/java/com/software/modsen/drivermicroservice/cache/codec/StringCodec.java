@@ -0,0 +1,42 @@
+package com.software.modsen.drivermicroservice.cache.codec;
+
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class StringCodec implements CacheValueCodec<String> {
+    @Override
+    public Class<String> type() {
+        return String.class;
+    }
+
+    @Override
+    public byte typeId() {
+        return 1;
+    }
+
+    @Override
+    public byte version() {
+        return 1;
+    }
+
+    @Override
+    public void write(DataOutput output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    @Override
+    public String read(DataInput input, byte version) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
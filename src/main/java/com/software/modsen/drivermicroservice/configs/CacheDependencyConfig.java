@@ -0,0 +1,37 @@
+package com.software.modsen.drivermicroservice.configs;
+
+import com.software.modsen.drivermicroservice.cache.CacheDependencyGraph;
+import com.software.modsen.drivermicroservice.cache.DriverAccountInvalidationBus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.software.modsen.drivermicroservice.cache.CacheDependencyGraph.EntityType.*;
+
+@Configuration
+public class CacheDependencyConfig {
+    @Bean
+    public CacheDependencyGraph cacheDependencyGraph(JdbcTemplate jdbcTemplate,
+                                                     DriverAccountInvalidationBus driverAccountInvalidationBus) {
+        return CacheDependencyGraph.builder()
+                .keys(CAR, id -> List.of("CarService::getCarById::" + id))
+                .dependent(CAR, DRIVER, id ->
+                        jdbcTemplate.queryForList("SELECT id FROM driver WHERE car_id = ?", Long.class, id))
+                .keys(DRIVER, id -> Stream.concat(
+                                Stream.of("driver:" + id, "driverRatingByDriverId:" + id),
+                                jdbcTemplate.queryForList("SELECT name FROM driver WHERE id = ?", String.class, id)
+                                        .stream()
+                                        .map(name -> "driver:" + name))
+                        .toList())
+                .dependent(DRIVER, DRIVER_RATING, id ->
+                        jdbcTemplate.queryForList("SELECT id FROM driver_rating WHERE driver_id = ?", Long.class, id))
+                .dependent(DRIVER, DRIVER_ACCOUNT, id ->
+                        jdbcTemplate.queryForList("SELECT id FROM driver_account WHERE driver_id = ?", Long.class, id))
+                .keys(DRIVER_RATING, id -> List.of("driverRating:" + id))
+                .localEviction(DRIVER_ACCOUNT, driverAccountInvalidationBus::invalidate)
+                .build();
+    }
+}
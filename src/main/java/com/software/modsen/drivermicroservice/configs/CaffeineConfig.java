@@ -2,8 +2,11 @@ package com.software.modsen.drivermicroservice.configs;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.software.modsen.drivermicroservice.cache.DriverAccountCache;
 import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccount;
-import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,9 +15,40 @@ import java.util.concurrent.TimeUnit;
 @Configuration
 public class CaffeineConfig {
     @Bean
-    public Cache<String, DriverAccount> caffeine() {
+    public DriverAccountCache driverAccountCache(
+            MeterRegistry meterRegistry,
+            @Value("${cache.driver-account.maximum-weight-bytes:67108864}") long maximumWeight,
+            @Value("${cache.driver-account.expire-after-write-seconds:3600}") long ttl,
+            @Value("${cache.driver-account.soft-values:false}") boolean softValues) {
+        Caffeine<Long, DriverAccount> driverAccountsBuilder = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher(DriverAccountCache::weigh)
+                .expireAfterWrite(ttl, TimeUnit.SECONDS)
+                .recordStats();
+
+        if (softValues) {
+            driverAccountsBuilder.softValues();
+        }
+
+        Cache<Long, DriverAccount> driverAccounts = driverAccountsBuilder.build();
+        Cache<Long, Long> driverAccountIdsByDriverId = Caffeine.newBuilder()
+                .maximumSize(maximumWeight / DriverAccountCache.MIN_ENTRY_WEIGHT)
+                .expireAfterWrite(ttl, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, driverAccounts, "driverAccounts");
+        CaffeineCacheMetrics.monitor(meterRegistry, driverAccountIdsByDriverId, "driverAccountIdsByDriverId");
+
+        return new DriverAccountCache(driverAccounts, driverAccountIdsByDriverId);
+    }
+
+    @Bean
+    public Cache<String, Object> nearCache(@Value("${cache.near.maximum-size:10000}") long maximumSize,
+                                           @Value("${cache.near.expire-after-write-seconds:30}") long ttl) {
         return Caffeine.newBuilder()
-                .expireAfterWrite(1, TimeUnit.HOURS)
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl, TimeUnit.SECONDS)
                 .build();
     }
 }
\ No newline at end of file
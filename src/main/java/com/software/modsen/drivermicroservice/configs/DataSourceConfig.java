@@ -1,13 +1,30 @@
 package com.software.modsen.drivermicroservice.configs;
 
+import com.software.modsen.drivermicroservice.configs.datasource.ReplicaRegistry;
+import com.software.modsen.drivermicroservice.configs.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
+@Slf4j
 @Configuration
+@EnableScheduling
 public class DataSourceConfig {
     @Value("${spring.datasource.driver-class-name}")
     private String driverClassName;
@@ -21,14 +38,96 @@ public class DataSourceConfig {
     @Value("${spring.datasource.password}")
     private String password;
 
+    @Value("${spring.datasource.hikari.warm-up:true}")
+    private boolean warmUp;
+
+    @Value("${spring.datasource.replicas.urls:}")
+    private String[] replicaUrls;
+
+    @Value("${spring.datasource.replicas.max-lag-ms:5000}")
+    private long replicaMaxLagMillis;
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariConfig hikariConfig() {
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setDriverClassName(driverClassName);
+        hikariConfig.setJdbcUrl(url);
+        hikariConfig.setUsername(username);
+        hikariConfig.setPassword(password);
+
+        return hikariConfig;
+    }
+
     @Bean
-    public DataSource dataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
-        dataSource.setDriverClassName(driverClassName);
-        dataSource.setUrl(url);
-        dataSource.setUsername(username);
-        dataSource.setPassword(password);
+    public HikariDataSource primaryDataSource(HikariConfig hikariConfig, MeterRegistry meterRegistry) {
+        hikariConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        HikariDataSource dataSource = new HikariDataSource(hikariConfig);
+
+        if (warmUp) {
+            warmUpPool(dataSource, hikariConfig.getMinimumIdle());
+        }
 
         return dataSource;
     }
-}
\ No newline at end of file
+
+    @Bean
+    public ReplicaRegistry replicaRegistry(HikariConfig hikariConfig, MeterRegistry meterRegistry) {
+        List<String> urls = Arrays.stream(replicaUrls)
+                .map(String::trim)
+                .filter(replicaUrl -> !replicaUrl.isEmpty())
+                .toList();
+        List<HikariDataSource> replicas = new ArrayList<>(urls.size());
+
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig replicaConfig = new HikariConfig();
+            hikariConfig.copyStateTo(replicaConfig);
+            replicaConfig.setJdbcUrl(urls.get(i));
+            replicaConfig.setPoolName(hikariConfig.getPoolName() + "-replica-" + (i + 1));
+            replicaConfig.setReadOnly(true);
+            replicaConfig.setInitializationFailTimeout(-1);
+            replicaConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+            replicas.add(new HikariDataSource(replicaConfig));
+        }
+
+        return new ReplicaRegistry(replicas, replicaMaxLagMillis, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRegistry replicaRegistry) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+
+        if (!replicaRegistry.isEmpty()) {
+            dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primaryDataSource, replicaRegistry));
+        }
+
+        return dataSource;
+    }
+
+    private void warmUpPool(HikariDataSource dataSource, int connections) {
+        List<Connection> openedConnections = new ArrayList<>(connections);
+
+        try {
+            for (int i = 0; i < connections; i++) {
+                openedConnections.add(dataSource.getConnection());
+            }
+        } catch (SQLException exception) {
+            log.warn("Pool {} warmed up only {} of {} connections: {}", dataSource.getPoolName(),
+                    openedConnections.size(), connections, exception.getMessage());
+        } finally {
+            for (Connection connection : openedConnections) {
+                try {
+                    connection.close();
+                } catch (SQLException exception) {
+                    log.warn("Cannot return connection to pool {}: {}", dataSource.getPoolName(),
+                            exception.getMessage());
+                }
+            }
+        }
+
+        log.info("Pool {} warmed up with {} connections.", dataSource.getPoolName(), openedConnections.size());
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.EntityManagerFactory;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
@@ -20,6 +21,8 @@ import java.util.Properties;
 public class JpaConfig {
     private DataSource dataSource;
 
+    private Environment environment;
+
     @Bean
     public LocalContainerEntityManagerFactoryBean entityManagerFactory() {
         LocalContainerEntityManagerFactoryBean entityManagerFactoryBean =
@@ -33,6 +36,22 @@ public class JpaConfig {
         Properties properties = new Properties();
         properties.put("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
         properties.put("hibernate.hbm2ddl.auto", "update");
+        properties.put("hibernate.generate_statistics",
+                environment.getProperty("spring.jpa.properties.hibernate.generate_statistics", "false"));
+        properties.put("hibernate.jdbc.fetch_size",
+                environment.getProperty("spring.jpa.properties.hibernate.jdbc.fetch_size", "500"));
+        properties.put("hibernate.jdbc.batch_size",
+                environment.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size", "50"));
+        properties.put("hibernate.order_inserts", "true");
+        properties.put("hibernate.order_updates", "true");
+
+        String statementInspector =
+                environment.getProperty("spring.jpa.properties.hibernate.session_factory.statement_inspector");
+
+        if (statementInspector != null) {
+            properties.put("hibernate.session_factory.statement_inspector", statementInspector);
+        }
+
         entityManagerFactoryBean.setJpaProperties(properties);
 
         return entityManagerFactoryBean;
@@ -0,0 +1,13 @@
+package com.software.modsen.drivermicroservice.configs;
+
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RedisCacheConfig {
+    @Bean
+    public RedisCacheManagerBuilderCustomizer transactionAwareRedisCacheManager() {
+        return builder -> builder.transactionAware();
+    }
+}
@@ -0,0 +1,29 @@
+package com.software.modsen.drivermicroservice.configs;
+
+import com.software.modsen.drivermicroservice.cache.InvalidationChannel;
+import com.software.modsen.drivermicroservice.cache.RedisInvalidationChannel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisMessageListenerConfig {
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+
+        return listenerContainer;
+    }
+
+    @Bean
+    public InvalidationChannel driverAccountInvalidationChannel(
+            RedisTemplate<String, Object> template,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${cache.invalidation.driver-account-channel:driver-account-invalidation}") String channel) {
+        return new RedisInvalidationChannel(template, listenerContainer, channel);
+    }
+}
@@ -0,0 +1,23 @@
+package com.software.modsen.drivermicroservice.configs;
+
+import com.software.modsen.drivermicroservice.cache.codec.BinaryRedisSerializer;
+import com.software.modsen.drivermicroservice.cache.codec.CacheValueCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+
+@Configuration
+public class RedisSerializerConfig {
+    @Bean
+    public RedisSerializer<Object> cacheValueSerializer(
+            List<CacheValueCodec<?>> codecs,
+            @Value("${cache.serialization.binary-enabled:true}") boolean binaryEnabled,
+            @Value("${cache.serialization.compression-threshold-bytes:512}") int compressionThreshold) {
+        return new BinaryRedisSerializer(codecs, new GenericJackson2JsonRedisSerializer(),
+                binaryEnabled ? compressionThreshold : Integer.MAX_VALUE, binaryEnabled);
+    }
+}
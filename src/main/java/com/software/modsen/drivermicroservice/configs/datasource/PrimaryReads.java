@@ -0,0 +1,29 @@
+package com.software.modsen.drivermicroservice.configs.datasource;
+
+import java.util.function.Supplier;
+
+public final class PrimaryReads {
+    private static final ThreadLocal<Boolean> REQUIRED = ThreadLocal.withInitial(() -> false);
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> supplier) {
+        boolean wasRequired = REQUIRED.get();
+        REQUIRED.set(true);
+
+        try {
+            return supplier.get();
+        } finally {
+            if (wasRequired) {
+                REQUIRED.set(true);
+            } else {
+                REQUIRED.remove();
+            }
+        }
+    }
+
+    public static boolean isRequired() {
+        return REQUIRED.get();
+    }
+}
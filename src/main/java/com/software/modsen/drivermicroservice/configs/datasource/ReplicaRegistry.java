@@ -0,0 +1,125 @@
+package com.software.modsen.drivermicroservice.configs.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class ReplicaRegistry implements AutoCloseable {
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private static final String REPLICATION_LAG_SQL = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000
+            END""";
+
+    public ReplicaRegistry(List<HikariDataSource> dataSources, long maxLagMillis, MeterRegistry meterRegistry) {
+        this.replicas = dataSources.stream()
+                .map(Replica::new)
+                .toList();
+        this.maxLagMillis = maxLagMillis;
+
+        for (Replica replica : replicas) {
+            Gauge.builder("datasource.replica.lag", replica, value -> value.lagMillis)
+                    .tag("pool", replica.name())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.healthy", replica, value -> value.healthy ? 1 : 0)
+                    .tag("pool", replica.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    public boolean isEmpty() {
+        return replicas.isEmpty();
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public Optional<Replica> nextHealthyReplica() {
+        List<Replica> healthyReplicas = replicas.stream()
+                .filter(Replica::isHealthy)
+                .toList();
+
+        if (healthyReplicas.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(healthyReplicas.get(Math.floorMod(nextReplica.getAndIncrement(),
+                healthyReplicas.size())));
+    }
+
+    @Scheduled(initialDelay = 0,
+            fixedDelayString = "${spring.datasource.replicas.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean wasHealthy = replica.healthy;
+
+            try (Connection connection = replica.dataSource().getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(REPLICATION_LAG_SQL)) {
+                resultSet.next();
+                double lagMillis = resultSet.getDouble(1);
+
+                if (resultSet.wasNull()) {
+                    replica.lagMillis = Double.NaN;
+                    replica.healthy = false;
+                } else {
+                    replica.lagMillis = lagMillis;
+                    replica.healthy = lagMillis <= maxLagMillis;
+                }
+            } catch (SQLException exception) {
+                replica.lagMillis = Double.NaN;
+                replica.healthy = false;
+                log.debug("Replica {} health check failed: {}", replica.name(), exception.getMessage());
+            }
+
+            if (wasHealthy != replica.healthy) {
+                log.warn("Replica {} marked as {} (lag {} ms).", replica.name(),
+                        replica.healthy ? "healthy" : "unhealthy", replica.lagMillis);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource().close());
+    }
+
+    public static class Replica {
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy;
+        private volatile double lagMillis = Double.NaN;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return dataSource.getPoolName();
+        }
+
+        public HikariDataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+    }
+}
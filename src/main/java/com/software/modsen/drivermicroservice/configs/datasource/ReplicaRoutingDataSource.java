@@ -0,0 +1,34 @@
+package com.software.modsen.drivermicroservice.configs.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private final ReplicaRegistry replicaRegistry;
+
+    public ReplicaRoutingDataSource(DataSource primaryDataSource, ReplicaRegistry replicaRegistry) {
+        this.replicaRegistry = replicaRegistry;
+
+        Map<Object, Object> replicaDataSources = new HashMap<>();
+        replicaRegistry.getReplicas()
+                .forEach(replica -> replicaDataSources.put(replica.name(), replica.dataSource()));
+
+        setTargetDataSources(replicaDataSources);
+        setDefaultTargetDataSource(primaryDataSource);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (PrimaryReads.isRequired()) {
+            return null;
+        }
+
+        return replicaRegistry.nextHealthyReplica()
+                .map(ReplicaRegistry.Replica::name)
+                .orElse(null);
+    }
+}
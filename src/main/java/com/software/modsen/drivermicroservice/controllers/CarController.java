@@ -2,18 +2,23 @@ package com.software.modsen.drivermicroservice.controllers;
 
 import com.software.modsen.drivermicroservice.entities.car.Car;
 import com.software.modsen.drivermicroservice.entities.car.CarDto;
+import com.software.modsen.drivermicroservice.entities.car.CarImportReport;
 import com.software.modsen.drivermicroservice.entities.car.CarPatchDto;
+import com.software.modsen.drivermicroservice.entities.page.KeysetPage;
 import com.software.modsen.drivermicroservice.mappers.CarMapper;
+import com.software.modsen.drivermicroservice.services.CarImportService;
 import com.software.modsen.drivermicroservice.services.CarService;
+import com.software.modsen.drivermicroservice.services.ExportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping(value = "/api/cars", produces = "application/json")
@@ -21,18 +26,34 @@ import java.util.List;
 @Tag(name = "Car controller.", description = "Allows to interact with cars.")
 public class CarController {
     private CarService carService;
+    private ExportService exportService;
+    private CarImportService carImportService;
     private final CarMapper CAR_MAPPER = CarMapper.INSTANCE;
 
     @GetMapping
     @Operation(
             description = "Allows to get all cars."
     )
-    public ResponseEntity<List<Car>> getAllCars(
+    public ResponseEntity<KeysetPage<Car>> getAllCars(
             @RequestParam(name = "includeDeleted", required = false,
                     defaultValue = "true")
-            boolean includeDeleted
+            boolean includeDeleted,
+            @RequestParam(name = "cursor", required = false)
+            @Parameter(description = "Cursor returned with the previous page.") String cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "20")
+            @Parameter(description = "Page size, at most 100.") int size
     ) {
-        return ResponseEntity.ok(carService.getAllCars(includeDeleted));
+        return ResponseEntity.ok(carService.getAllCars(includeDeleted, cursor, size));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            description = "Allows to export all cars as NDJSON stream."
+    )
+    public ResponseEntity<StreamingResponseBody> exportCars() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(exportService::exportCars);
     }
 
     @GetMapping("/{id}")
@@ -53,6 +74,16 @@ public class CarController {
         return ResponseEntity.ok(carService.saveCar(CAR_MAPPER.fromCarDtoToCar(carDto)));
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+            description = "Allows to import cars from CSV file with color, brand and carNumber columns."
+    )
+    public ResponseEntity<CarImportReport> importCars(@RequestParam("file")
+                                                      @Parameter(description = "CSV file with cars.")
+                                                      MultipartFile file) {
+        return ResponseEntity.ok(carImportService.importCars(file));
+    }
+
     @PutMapping("/{id}")
     @Operation(
             description = "Allows to update car."
@@ -3,15 +3,20 @@ package com.software.modsen.drivermicroservice.controllers;
 import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccount;
 import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccountBalanceDownDto;
 import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccountBalanceUpDto;
+import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccountSummary;
+import com.software.modsen.drivermicroservice.entities.page.KeysetPage;
 import com.software.modsen.drivermicroservice.mappers.DriverAccountMapper;
 import com.software.modsen.drivermicroservice.services.DriverAccountService;
+import com.software.modsen.drivermicroservice.services.ExportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -21,18 +26,33 @@ import java.util.List;
 @Tag(name = "Driver account controller.", description = "Allows to interact with driver accounts.")
 public class DriverAccountController {
     private DriverAccountService driverAccountService;
+    private ExportService exportService;
     private final DriverAccountMapper DRIVER_ACCOUNT_MAPPER = DriverAccountMapper.INSTANCE;
 
     @GetMapping("/accounts")
     @Operation(
             description = "Allows to get all driver accounts."
     )
-    public ResponseEntity<List<DriverAccount>> getAllDriverAccounts(
+    public ResponseEntity<KeysetPage<DriverAccountSummary>> getAllDriverAccounts(
             @RequestParam(name = "includeDeleted",
                     required = false, defaultValue = "true")
-            boolean includeDeleted
+            boolean includeDeleted,
+            @RequestParam(name = "cursor", required = false)
+            @Parameter(description = "Cursor returned with the previous page.") String cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "20")
+            @Parameter(description = "Page size, at most 100.") int size
     ) {
-        return ResponseEntity.ok(driverAccountService.getAllDriverAccounts(includeDeleted));
+        return ResponseEntity.ok(driverAccountService.getAllDriverAccounts(includeDeleted, cursor, size));
+    }
+
+    @GetMapping(value = "/accounts/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            description = "Allows to export all driver accounts as NDJSON stream."
+    )
+    public ResponseEntity<StreamingResponseBody> exportDriverAccounts() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(exportService::exportDriverAccounts);
     }
 
     @GetMapping("/accounts/{id}")
@@ -54,6 +74,16 @@ public class DriverAccountController {
         return ResponseEntity.ok(driverAccountService.getDriverAccountByDriverId(driverId));
     }
 
+    @PostMapping("/accounts/batch")
+    @Operation(
+            description = "Allows to get driver accounts by driver ids. Not found and deleted drivers are skipped."
+    )
+    public ResponseEntity<List<DriverAccount>> getDriverAccountsByDriverIds(@RequestBody
+                                                                            @Parameter(description = "Driver ids.")
+                                                                            List<Long> driverIds) {
+        return ResponseEntity.ok(driverAccountService.getDriverAccountsByDriverIds(driverIds));
+    }
+
     @PutMapping("/{driver_id}/accounts/up")
     @Operation(
             description = "Allows to increase driver balance by driver id."
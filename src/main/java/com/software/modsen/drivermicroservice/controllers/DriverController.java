@@ -2,15 +2,23 @@ package com.software.modsen.drivermicroservice.controllers;
 
 import com.software.modsen.drivermicroservice.entities.driver.Driver;
 import com.software.modsen.drivermicroservice.entities.driver.DriverDto;
+import com.software.modsen.drivermicroservice.entities.driver.DriverOnboardingResult;
 import com.software.modsen.drivermicroservice.entities.driver.DriverPatchDto;
+import com.software.modsen.drivermicroservice.entities.driver.DriverProfile;
+import com.software.modsen.drivermicroservice.entities.page.KeysetPage;
 import com.software.modsen.drivermicroservice.mappers.DriverMapper;
+import com.software.modsen.drivermicroservice.services.DriverOnboardingService;
+import com.software.modsen.drivermicroservice.services.DriverProfileService;
+import com.software.modsen.drivermicroservice.services.ExportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -20,20 +28,37 @@ import java.util.List;
 @Tag(name = "Driver controller.", description = "Allows to interact with drivers.")
 public class DriverController {
     private com.software.modsen.drivermicroservice.services.DriverService driverService;
+    private ExportService exportService;
+    private DriverOnboardingService driverOnboardingService;
+    private DriverProfileService driverProfileService;
     private final DriverMapper DRIVER_MAPPER = DriverMapper.INSTANCE;
 
     @GetMapping
     @Operation(
             description = "Allows to get all drivers."
     )
-    public ResponseEntity<List<Driver>> getAllDrivers(
+    public ResponseEntity<KeysetPage<Driver>> getAllDrivers(
             @RequestParam(name = "includeDeleted", required = false,
                     defaultValue = "true")
             boolean includeDeleted,
             @RequestParam(name = "name",
-                    required = false) String name
+                    required = false) String name,
+            @RequestParam(name = "cursor", required = false)
+            @Parameter(description = "Cursor returned with the previous page.") String cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "20")
+            @Parameter(description = "Page size, at most 100.") int size
     ) {
-        return ResponseEntity.ok(driverService.getAllDrivers(includeDeleted, name));
+        return ResponseEntity.ok(driverService.getAllDrivers(includeDeleted, name, cursor, size));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            description = "Allows to export all drivers as NDJSON stream."
+    )
+    public ResponseEntity<StreamingResponseBody> exportDrivers() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(exportService::exportDrivers);
     }
 
     @GetMapping("/{id}")
@@ -45,6 +70,25 @@ public class DriverController {
         return ResponseEntity.ok(driverService.getDriverById(id));
     }
 
+    @GetMapping("/{id}/profile")
+    @Operation(
+            description = "Allows to get driver with rating and account in one request. Parts which could not " +
+                    "be loaded in time are returned as null with their status."
+    )
+    public ResponseEntity<DriverProfile> getDriverProfile(@PathVariable("id")
+                                                          @Parameter(description = "Driver id.") long id) {
+        return ResponseEntity.ok(driverProfileService.getDriverProfile(id));
+    }
+
+    @PostMapping("/batch")
+    @Operation(
+            description = "Allows to get drivers by ids. Not found drivers are skipped."
+    )
+    public ResponseEntity<List<Driver>> getDriversByIds(@RequestBody @Parameter(description = "Driver ids.")
+                                                        List<Long> ids) {
+        return ResponseEntity.ok(driverService.getDriversByIds(ids));
+    }
+
     @PostMapping
     @Operation(
             description = "Allows to save new driver."
@@ -57,6 +101,16 @@ public class DriverController {
                 DRIVER_MAPPER.fromDriverDtoToDriver(driverDto)));
     }
 
+    @PostMapping("/bulk")
+    @Operation(
+            description = "Allows to onboard drivers in bulk. Returns result for each driver."
+    )
+    public ResponseEntity<List<DriverOnboardingResult>> onboardDrivers(@RequestBody
+                                                                       @Parameter(description = "Driver entities.")
+                                                                       List<DriverDto> driverDtos) {
+        return ResponseEntity.ok(driverOnboardingService.onboardDrivers(driverDtos));
+    }
+
     @PutMapping("/{id}")
     @Operation(
             description = "Allows to update driver by id."
@@ -3,15 +3,19 @@ package com.software.modsen.drivermicroservice.controllers;
 import com.software.modsen.drivermicroservice.entities.driver.rating.DriverRating;
 import com.software.modsen.drivermicroservice.entities.driver.rating.DriverRatingPatchDto;
 import com.software.modsen.drivermicroservice.entities.driver.rating.DriverRatingPutDto;
+import com.software.modsen.drivermicroservice.entities.page.KeysetPage;
 import com.software.modsen.drivermicroservice.mappers.DriverRatingMapper;
 import com.software.modsen.drivermicroservice.services.DriverRatingService;
+import com.software.modsen.drivermicroservice.services.ExportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -21,18 +25,33 @@ import java.util.List;
 @Tag(name = "Driver rating controller.", description = "Allows to interact with driver ratings.")
 public class DriverRatingController {
     private DriverRatingService driverRatingService;
+    private ExportService exportService;
     private final DriverRatingMapper DRIVER_RATING_MAPPER = DriverRatingMapper.INSTANCE;
 
     @GetMapping("/ratings")
     @Operation(
             description = "Allows to get all driver ratings."
     )
-    public ResponseEntity<List<DriverRating>> getAllDriverRatings(
+    public ResponseEntity<KeysetPage<DriverRating>> getAllDriverRatings(
             @RequestParam(name = "includeDeleted",
                     required = false, defaultValue = "true")
-            boolean includeDeleted
+            boolean includeDeleted,
+            @RequestParam(name = "cursor", required = false)
+            @Parameter(description = "Cursor returned with the previous page.") String cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "20")
+            @Parameter(description = "Page size, at most 100.") int size
     ) {
-        return ResponseEntity.ok(driverRatingService.getAllDriverRatings(includeDeleted));
+        return ResponseEntity.ok(driverRatingService.getAllDriverRatings(includeDeleted, cursor, size));
+    }
+
+    @GetMapping(value = "/ratings/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            description = "Allows to export all driver ratings as NDJSON stream."
+    )
+    public ResponseEntity<StreamingResponseBody> exportDriverRatings() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(exportService::exportDriverRatings);
     }
 
     @GetMapping("/ratings/{id}")
@@ -55,6 +74,16 @@ public class DriverRatingController {
         return ResponseEntity.ok(driverRatingService.getDriverRatingByDriverId(driverId));
     }
 
+    @PostMapping("/ratings/batch")
+    @Operation(
+            description = "Allows to get driver ratings by driver ids. Not found and deleted drivers are skipped."
+    )
+    public ResponseEntity<List<DriverRating>> getDriverRatingsByDriverIds(@RequestBody
+                                                                          @Parameter(description = "Driver ids.")
+                                                                          List<Long> driverIds) {
+        return ResponseEntity.ok(driverRatingService.getDriverRatingsByDriverIds(driverIds));
+    }
+
     @PutMapping("/ratings/{id}")
     @Operation(
             description = "Allows to update driver rating by id."
@@ -0,0 +1,18 @@
+package com.software.modsen.drivermicroservice.entities.car;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Rejected row of car import.")
+public record CarImportError(
+        @JsonProperty("line")
+        @Schema(description = "Line number in the file, header is line 1.")
+        long line,
+
+        @JsonProperty("carNumber")
+        String carNumber,
+
+        @JsonProperty("error")
+        String error
+) {
+}
@@ -0,0 +1,26 @@
+package com.software.modsen.drivermicroservice.entities.car;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Result of car import.")
+public record CarImportReport(
+        @JsonProperty("totalRows")
+        long totalRows,
+
+        @JsonProperty("importedRows")
+        long importedRows,
+
+        @JsonProperty("failedRows")
+        long failedRows,
+
+        @JsonProperty("errors")
+        @Schema(description = "Rejected rows, at most first 1000.")
+        List<CarImportError> errors,
+
+        @JsonProperty("errorsTruncated")
+        boolean errorsTruncated
+) {
+}
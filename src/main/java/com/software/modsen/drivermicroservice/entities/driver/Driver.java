@@ -19,7 +19,8 @@ import java.io.Serializable;
 @Schema(description = "Driver entity.")
 public class Driver implements Serializable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "driver_id_generator")
+    @SequenceGenerator(name = "driver_id_generator", sequenceName = "driver_id_seq", allocationSize = 50)
     @Schema(accessMode = Schema.AccessMode.READ_ONLY)
     private long id;
 
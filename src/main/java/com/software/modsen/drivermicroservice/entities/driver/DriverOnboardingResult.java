@@ -0,0 +1,27 @@
+package com.software.modsen.drivermicroservice.entities.driver;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Result of onboarding one driver from a bulk request.")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DriverOnboardingResult(
+        @JsonProperty("index")
+        @Schema(description = "Position of the driver in the request.")
+        int index,
+
+        @JsonProperty("driverId")
+        Long driverId,
+
+        @JsonProperty("error")
+        String error
+) {
+    public static DriverOnboardingResult created(int index, long driverId) {
+        return new DriverOnboardingResult(index, driverId, null);
+    }
+
+    public static DriverOnboardingResult failed(int index, String error) {
+        return new DriverOnboardingResult(index, null, error);
+    }
+}
@@ -0,0 +1,32 @@
+package com.software.modsen.drivermicroservice.entities.driver;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccount;
+import com.software.modsen.drivermicroservice.entities.driver.rating.DriverRating;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@Schema(description = "Driver with rating and account. Parts which could not be loaded in time are null.")
+public record DriverProfile(
+        @JsonProperty("driver")
+        Driver driver,
+
+        @JsonProperty("rating")
+        DriverRating rating,
+
+        @JsonProperty("account")
+        DriverAccount account,
+
+        @JsonProperty("status")
+        @Schema(description = "Loading status of each part: driver, rating and account.")
+        Map<String, PartStatus> status
+) {
+    public enum PartStatus {
+        OK,
+        NOT_FOUND,
+        DELETED,
+        TIMEOUT,
+        FAILED
+    }
+}
@@ -15,7 +15,8 @@ import lombok.NoArgsConstructor;
 @Schema(description = "Driver account entity.")
 public class DriverAccount {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "driver_account_id_generator")
+    @SequenceGenerator(name = "driver_account_id_generator", sequenceName = "driver_account_id_seq", allocationSize = 50)
     @Schema(accessMode = Schema.AccessMode.READ_ONLY)
     private long id;
 
@@ -0,0 +1,23 @@
+package com.software.modsen.drivermicroservice.entities.driver.account;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Driver account with the name of its driver.")
+public record DriverAccountSummary(
+        @JsonProperty("id")
+        long id,
+
+        @JsonProperty("driverId")
+        long driverId,
+
+        @JsonProperty("driverName")
+        String driverName,
+
+        @JsonProperty("balance")
+        Float balance,
+
+        @JsonProperty("currency")
+        Currency currency
+) {
+}
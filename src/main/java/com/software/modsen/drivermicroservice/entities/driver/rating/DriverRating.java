@@ -17,7 +17,8 @@ import java.io.Serializable;
 @Schema(description = "Driver rating entity.")
 public class DriverRating implements Serializable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "driver_rating_id_generator")
+    @SequenceGenerator(name = "driver_rating_id_generator", sequenceName = "driver_rating_id_seq", allocationSize = 50)
     @Schema(accessMode = Schema.AccessMode.READ_ONLY)
     private long id;
 
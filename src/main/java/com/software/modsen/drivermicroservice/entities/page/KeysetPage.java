@@ -0,0 +1,33 @@
+package com.software.modsen.drivermicroservice.entities.page;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+@Schema(description = "Page of entities ordered by id.")
+public record KeysetPage<T>(
+        @JsonProperty("content")
+        List<T> content,
+
+        @JsonProperty("nextCursor")
+        @Schema(description = "Opaque token to request the next page. Absent on the last page.")
+        String nextCursor
+) {
+    public static <T> KeysetPage<T> single(T element) {
+        return new KeysetPage<>(List.of(element), null);
+    }
+
+    public static <T> KeysetPage<T> of(List<T> rows, int size, ToLongFunction<T> idExtractor) {
+        int pageSize = PageCursor.pageSize(size);
+
+        if (rows.size() <= pageSize) {
+            return new KeysetPage<>(rows, null);
+        }
+
+        List<T> content = rows.subList(0, pageSize);
+
+        return new KeysetPage<>(content, PageCursor.encode(idExtractor.applyAsLong(content.get(pageSize - 1))));
+    }
+}
@@ -0,0 +1,49 @@
+package com.software.modsen.drivermicroservice.entities.page;
+
+import com.software.modsen.drivermicroservice.exceptions.InvalidPageCursorException;
+import org.springframework.data.domain.Limit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.INVALID_PAGE_CURSOR_MESSAGE;
+
+public final class PageCursor {
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String PREFIX = "id:";
+
+    private PageCursor() {
+    }
+
+    public static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+
+        try {
+            String decodedCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+            if (decodedCursor.startsWith(PREFIX)) {
+                return Long.parseLong(decodedCursor.substring(PREFIX.length()));
+            }
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidPageCursorException(INVALID_PAGE_CURSOR_MESSAGE);
+        }
+
+        throw new InvalidPageCursorException(INVALID_PAGE_CURSOR_MESSAGE);
+    }
+
+    public static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    public static Limit fetchLimit(int size) {
+        return Limit.of(pageSize(size) + 1);
+    }
+}
@@ -16,6 +16,17 @@ public class ErrorMessage {
     public static final String REQUEST_RESOURCE_NOT_FOUND_MESSAGE = "The requested resource was not found. Please" +
             " check the URL and try again.";
     public static final String INVALID_JSON_FORMAT = "Invalid json format.";
+    public static final String INVALID_PAGE_CURSOR_MESSAGE = "Invalid page cursor.";
+    public static final String INVALID_CSV_HEADER_MESSAGE = "CSV file must start with header containing color," +
+            " brand and carNumber columns.";
+    public static final String CANNOT_READ_CSV_FILE_MESSAGE = "Cannot read CSV file.";
+    public static final String INVALID_CSV_ROW_MESSAGE = "Row does not match the header.";
+    public static final String INVALID_CAR_COLOR_MESSAGE = "Invalid car color.";
+    public static final String INVALID_CAR_BRAND_MESSAGE = "Invalid car brand.";
+    public static final String CAR_NUMBER_ALREADY_REGISTERED_MESSAGE = "This car number has already been registered.";
+    public static final String TOO_MANY_DRIVERS_TO_ONBOARD_MESSAGE = "Cannot onboard more than %d drivers" +
+            " in one request.";
+    public static final String TOO_MANY_IDS_IN_BATCH_MESSAGE = "Cannot request more than %d ids in one batch.";
 
     public static final String DRIVER_ACCOUNT_NOT_FOUND_MESSAGE = "Driver account not found.";
 
@@ -111,6 +111,27 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(InvalidPageCursorException.class)
+    public ResponseEntity<String> invalidPageCursorExceptionHandler(InvalidPageCursorException exception) {
+        return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidCsvFileException.class)
+    public ResponseEntity<String> invalidCsvFileExceptionHandler(InvalidCsvFileException exception) {
+        return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(TooManyDriversToOnboardException.class)
+    public ResponseEntity<String> tooManyDriversToOnboardExceptionHandler(TooManyDriversToOnboardException
+                                                                                  exception) {
+        return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(TooManyIdsInBatchException.class)
+    public ResponseEntity<String> tooManyIdsInBatchExceptionHandler(TooManyIdsInBatchException exception) {
+        return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(DatabaseConnectionRefusedException.class)
     public ResponseEntity<String> pSQLExceptionHandler(DatabaseConnectionRefusedException exception) {
         return new ResponseEntity<>(exception.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
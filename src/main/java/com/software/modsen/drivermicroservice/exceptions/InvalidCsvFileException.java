@@ -0,0 +1,7 @@
+package com.software.modsen.drivermicroservice.exceptions;
+
+public class InvalidCsvFileException extends RuntimeException {
+    public InvalidCsvFileException(String message) {
+        super(message);
+    }
+}
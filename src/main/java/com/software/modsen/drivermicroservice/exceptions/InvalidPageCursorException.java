@@ -0,0 +1,7 @@
+package com.software.modsen.drivermicroservice.exceptions;
+
+public class InvalidPageCursorException extends RuntimeException {
+    public InvalidPageCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.software.modsen.drivermicroservice.exceptions;
+
+public class TooManyDriversToOnboardException extends RuntimeException {
+    public TooManyDriversToOnboardException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.software.modsen.drivermicroservice.exceptions;
+
+public class TooManyIdsInBatchException extends RuntimeException {
+    public TooManyIdsInBatchException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,6 @@
 package com.software.modsen.drivermicroservice.observer;
 
+import com.software.modsen.drivermicroservice.cache.KnownIdRegistry;
 import com.software.modsen.drivermicroservice.entities.driver.Driver;
 import com.software.modsen.drivermicroservice.entities.driver.account.Currency;
 import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccount;
@@ -12,6 +13,8 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.BAD_CONNECTION_TO_DATABASE_MESSAGE;
@@ -21,6 +24,7 @@ import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.CAN
 public class DriverAccountObserver implements DriverObserver {
     private DriverRepository driverRepository;
     private DriverAccountRepository driverAccountRepository;
+    private KnownIdRegistry knownIdRegistry;
 
     @Override
     @Transactional
@@ -35,6 +39,27 @@ public class DriverAccountObserver implements DriverObserver {
         newDriverAccount.setCurrency(Currency.BYN);
 
         driverAccountRepository.save(newDriverAccount);
+        knownIdRegistry.registerInserted(KnownIdRegistry.IdType.DRIVER_ACCOUNT, newDriverAccount.getId());
+    }
+
+    @Override
+    public void updateDriversInfo(List<Driver> drivers) {
+        List<DriverAccount> newDriverAccounts = new ArrayList<>(drivers.size());
+
+        for (Driver driver : drivers) {
+            DriverAccount newDriverAccount = new DriverAccount();
+
+            newDriverAccount.setDriver(driver);
+            newDriverAccount.setBalance(0.0f);
+            newDriverAccount.setCurrency(Currency.BYN);
+
+            newDriverAccounts.add(newDriverAccount);
+        }
+
+        driverAccountRepository.saveAll(newDriverAccounts);
+        knownIdRegistry.registerInserted(KnownIdRegistry.IdType.DRIVER_ACCOUNT, newDriverAccounts.stream()
+                .map(DriverAccount::getId)
+                .toList());
     }
 
     @Recover
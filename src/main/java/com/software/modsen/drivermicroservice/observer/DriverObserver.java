@@ -1,5 +1,11 @@
 package com.software.modsen.drivermicroservice.observer;
 
+import com.software.modsen.drivermicroservice.entities.driver.Driver;
+
+import java.util.List;
+
 public interface DriverObserver {
     void updateDriverInfo(long driverId);
+
+    void updateDriversInfo(List<Driver> drivers);
 }
\ No newline at end of file
@@ -11,6 +11,8 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.BAD_CONNECTION_TO_DATABASE_MESSAGE;
@@ -36,6 +38,23 @@ public class DriverRatingObserver implements DriverObserver {
         driverRatingRepository.save(newDriverRating);
     }
 
+    @Override
+    public void updateDriversInfo(List<Driver> drivers) {
+        List<DriverRating> newDriverRatings = new ArrayList<>(drivers.size());
+
+        for (Driver driver : drivers) {
+            DriverRating newDriverRating = new DriverRating();
+
+            newDriverRating.setDriver(driver);
+            newDriverRating.setNumberOfRatings(0);
+            newDriverRating.setRatingValue(0.0f);
+
+            newDriverRatings.add(newDriverRating);
+        }
+
+        driverRatingRepository.saveAll(newDriverRatings);
+    }
+
     @Recover
     public void fallbackPostgresHandle(Throwable throwable) {
         if (throwable instanceof DataIntegrityViolationException) {
@@ -1,5 +1,6 @@
 package com.software.modsen.drivermicroservice.observer;
 
+import com.software.modsen.drivermicroservice.entities.driver.Driver;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
@@ -22,4 +23,11 @@ public class DriverSubject {
             passengerObserver.updateDriverInfo(driverId);
         }
     }
+
+    @Transactional
+    public void notifyDriverObservers(List<Driver> drivers) {
+        for (DriverObserver driverObserver: driverObservers) {
+            driverObserver.updateDriversInfo(drivers);
+        }
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.software.modsen.drivermicroservice.observer;
 
+import com.software.modsen.drivermicroservice.cache.KnownIdRegistry;
 import com.software.modsen.drivermicroservice.repositories.DriverAccountRepository;
 import com.software.modsen.drivermicroservice.repositories.DriverRatingRepository;
 import com.software.modsen.drivermicroservice.repositories.DriverRepository;
@@ -11,10 +12,12 @@ public class ObserverConfig {
     @Bean
     public DriverSubject passengerSubject(DriverRatingRepository driverRatingRepository,
                                           DriverRepository driverRepository,
-                                          DriverAccountRepository driverAccountRepository) {
+                                          DriverAccountRepository driverAccountRepository,
+                                          KnownIdRegistry knownIdRegistry) {
         DriverSubject driverSubject = new DriverSubject();
         driverSubject.addDriverObserver(new DriverRatingObserver(driverRatingRepository, driverRepository));
-        driverSubject.addDriverObserver(new DriverAccountObserver(driverRepository, driverAccountRepository));
+        driverSubject.addDriverObserver(new DriverAccountObserver(driverRepository, driverAccountRepository,
+                knownIdRegistry));
 
         return driverSubject;
     }
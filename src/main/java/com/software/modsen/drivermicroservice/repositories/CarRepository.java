@@ -1,12 +1,21 @@
 package com.software.modsen.drivermicroservice.repositories;
 
 import com.software.modsen.drivermicroservice.entities.car.Car;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CarRepository extends JpaRepository<Car, Long> {
     Optional<Car> findCarByIdAndIsDeleted(long id, boolean isDeleted);
+
+    List<Car> findByIdGreaterThanOrderById(long id, Limit limit);
+
+    List<Car> findByIdGreaterThanAndIsDeletedOrderById(long id, boolean isDeleted, Limit limit);
+
+    Stream<Car> streamAllByOrderById();
 }
\ No newline at end of file
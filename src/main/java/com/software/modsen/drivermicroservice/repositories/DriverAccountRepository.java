@@ -1,11 +1,41 @@
 package com.software.modsen.drivermicroservice.repositories;
 
 import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccount;
+import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccountSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface DriverAccountRepository extends JpaRepository<DriverAccount, Long> {
     Optional<DriverAccount> findByDriverId(long driverId);
 
-}
\ No newline at end of file
+    @Query("""
+            SELECT new com.software.modsen.drivermicroservice.entities.driver.account.DriverAccountSummary(
+                a.id, d.id, d.name, a.balance, a.currency)
+            FROM DriverAccount a JOIN a.driver d
+            WHERE a.id > :id
+            ORDER BY a.id""")
+    List<DriverAccountSummary> findSummariesByIdGreaterThan(@Param("id") long id, Limit limit);
+
+    @Query("""
+            SELECT new com.software.modsen.drivermicroservice.entities.driver.account.DriverAccountSummary(
+                a.id, d.id, d.name, a.balance, a.currency)
+            FROM DriverAccount a JOIN a.driver d
+            WHERE a.id > :id AND d.isDeleted = :isDeleted
+            ORDER BY a.id""")
+    List<DriverAccountSummary> findSummariesByIdGreaterThanAndDriverIsDeleted(@Param("id") long id,
+                                                                              @Param("isDeleted") boolean isDeleted,
+                                                                              Limit limit);
+
+    @Query("SELECT a FROM DriverAccount a JOIN FETCH a.driver d LEFT JOIN FETCH d.car WHERE d.id IN :driverIds")
+    List<DriverAccount> findAllByDriverIdIn(@Param("driverIds") Collection<Long> driverIds);
+
+    @Query("SELECT a FROM DriverAccount a JOIN FETCH a.driver d JOIN FETCH d.car ORDER BY a.id")
+    Stream<DriverAccount> streamAll();
+}
@@ -1,12 +1,31 @@
 package com.software.modsen.drivermicroservice.repositories;
 
 import com.software.modsen.drivermicroservice.entities.driver.rating.DriverRating;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface DriverRatingRepository extends JpaRepository<DriverRating, Long> {
     Optional<DriverRating> findByDriverId(long driverId);
+
+    @EntityGraph(attributePaths = {"driver", "driver.car"})
+    List<DriverRating> findByIdGreaterThanOrderById(long id, Limit limit);
+
+    @EntityGraph(attributePaths = {"driver", "driver.car"})
+    List<DriverRating> findByIdGreaterThanAndDriver_IsDeletedOrderById(long id, boolean isDeleted, Limit limit);
+
+    @Query("SELECT r FROM DriverRating r JOIN FETCH r.driver d LEFT JOIN FETCH d.car WHERE d.id IN :driverIds")
+    List<DriverRating> findAllByDriverIdIn(@Param("driverIds") Collection<Long> driverIds);
+
+    @Query("SELECT r FROM DriverRating r JOIN FETCH r.driver d JOIN FETCH d.car ORDER BY r.id")
+    Stream<DriverRating> streamAll();
 }
\ No newline at end of file
@@ -2,11 +2,17 @@ package com.software.modsen.drivermicroservice.repositories;
 
 import com.software.modsen.drivermicroservice.entities.driver.Driver;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface DriverRepository extends JpaRepository<Driver, Long> {
@@ -16,6 +22,17 @@ public interface DriverRepository extends JpaRepository<Driver, Long> {
 
     Optional<Driver> findByName(String name);
 
-    @Lock(LockModeType.PESSIMISTIC_READ)
-    Optional<Driver> findById(long id);
+    List<Driver> findByIdGreaterThanOrderById(long id, Limit limit);
+
+    List<Driver> findByIdGreaterThanAndIsDeletedOrderById(long id, boolean isDeleted, Limit limit);
+
+    @Query("SELECT d FROM Driver d JOIN FETCH d.car ORDER BY d.id")
+    Stream<Driver> streamAll();
+
+    @Query("SELECT d FROM Driver d LEFT JOIN FETCH d.car WHERE d.id IN :ids")
+    List<Driver> findAllWithCarByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM Driver d WHERE d.id = :id")
+    Optional<Driver> findByIdForUpdate(@Param("id") long id);
 }
\ No newline at end of file
@@ -0,0 +1,195 @@
+package com.software.modsen.drivermicroservice.services;
+
+import com.software.modsen.drivermicroservice.cache.KnownIdRegistry;
+import com.software.modsen.drivermicroservice.entities.car.*;
+import com.software.modsen.drivermicroservice.exceptions.InvalidCsvFileException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.*;
+
+@Service
+@AllArgsConstructor
+public class CarImportService {
+    private JdbcTemplate jdbcTemplate;
+    private Validator validator;
+    private KnownIdRegistry knownIdRegistry;
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String INSERT_CARS_SQL = """
+            INSERT INTO car (color, brand, car_number, is_deleted)
+            SELECT color, brand, car_number, false
+            FROM unnest(?, ?, ?) WITH ORDINALITY AS imported(color, brand, car_number, ordinal)
+            ORDER BY ordinal
+            ON CONFLICT (car_number) DO NOTHING
+            RETURNING id, car_number""";
+
+    public CarImportReport importCars(MultipartFile file) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            int[] columns = parseHeader(reader.readLine());
+            ImportProgress progress = new ImportProgress();
+            List<CarRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+            String line;
+            long lineNumber = 1;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                progress.totalRows++;
+                CarRow carRow = parseRow(line, lineNumber, columns, progress);
+
+                if (carRow != null) {
+                    chunk.add(carRow);
+                }
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    insertChunk(chunk, progress);
+                    chunk.clear();
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                insertChunk(chunk, progress);
+            }
+
+            return progress.toReport();
+        } catch (IOException exception) {
+            throw new InvalidCsvFileException(CANNOT_READ_CSV_FILE_MESSAGE);
+        }
+    }
+
+    private int[] parseHeader(String header) {
+        if (header == null) {
+            throw new InvalidCsvFileException(INVALID_CSV_HEADER_MESSAGE);
+        }
+
+        List<String> names = Arrays.stream(header.replace("\uFEFF", "").split(",", -1))
+                .map(name -> unquote(name).replace("_", "").toLowerCase(Locale.ROOT))
+                .toList();
+        int[] columns = {names.indexOf("color"), names.indexOf("brand"), names.indexOf("carnumber")};
+
+        if (Arrays.stream(columns).anyMatch(column -> column < 0)) {
+            throw new InvalidCsvFileException(INVALID_CSV_HEADER_MESSAGE);
+        }
+
+        return columns;
+    }
+
+    private CarRow parseRow(String line, long lineNumber, int[] columns, ImportProgress progress) {
+        String[] values = line.split(",", -1);
+
+        if (values.length <= Arrays.stream(columns).max().getAsInt()) {
+            progress.reject(lineNumber, null, INVALID_CSV_ROW_MESSAGE);
+            return null;
+        }
+
+        String carNumber = unquote(values[columns[2]]);
+        CarColor color;
+        CarBrand brand;
+
+        try {
+            color = CarColor.valueOf(unquote(values[columns[0]]).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            progress.reject(lineNumber, carNumber, INVALID_CAR_COLOR_MESSAGE);
+            return null;
+        }
+
+        try {
+            brand = CarBrand.valueOf(unquote(values[columns[1]]).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            progress.reject(lineNumber, carNumber, INVALID_CAR_BRAND_MESSAGE);
+            return null;
+        }
+
+        CarDto carDto = new CarDto(color, brand, carNumber);
+        Set<ConstraintViolation<CarDto>> violations = validator.validate(carDto);
+
+        if (!violations.isEmpty()) {
+            progress.reject(lineNumber, carNumber, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(" ")));
+            return null;
+        }
+
+        return new CarRow(lineNumber, carDto);
+    }
+
+    private void insertChunk(List<CarRow> chunk, ImportProgress progress) {
+        Map<String, Long> insertedCars = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_CARS_SQL);
+            statement.setArray(1, connection.createArrayOf("varchar",
+                    chunk.stream().map(carRow -> carRow.car().color().name()).toArray()));
+            statement.setArray(2, connection.createArrayOf("varchar",
+                    chunk.stream().map(carRow -> carRow.car().brand().name()).toArray()));
+            statement.setArray(3, connection.createArrayOf("varchar",
+                    chunk.stream().map(carRow -> carRow.car().carNumber()).toArray()));
+
+            return statement;
+        }, (resultSet, rowNumber) -> Map.entry(resultSet.getString("car_number"), resultSet.getLong("id")))
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        knownIdRegistry.registerInserted(KnownIdRegistry.IdType.CAR, List.copyOf(insertedCars.values()));
+
+        for (CarRow carRow : chunk) {
+            if (insertedCars.remove(carRow.car().carNumber()) != null) {
+                progress.importedRows++;
+            } else {
+                progress.reject(carRow.line(), carRow.car().carNumber(), CAR_NUMBER_ALREADY_REGISTERED_MESSAGE);
+            }
+        }
+    }
+
+    private static String unquote(String value) {
+        String trimmed = value.trim();
+
+        if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+            return trimmed.substring(1, trimmed.length() - 1).trim();
+        }
+
+        return trimmed;
+    }
+
+    private record CarRow(long line, CarDto car) {
+    }
+
+    private static class ImportProgress {
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+        private final List<CarImportError> errors = new ArrayList<>();
+
+        private void reject(long line, String carNumber, String error) {
+            failedRows++;
+
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new CarImportError(line, carNumber, error));
+            }
+        }
+
+        private CarImportReport toReport() {
+            return new CarImportReport(totalRows, importedRows, failedRows, errors, failedRows > errors.size());
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package com.software.modsen.drivermicroservice.services;
 
+import com.software.modsen.drivermicroservice.cache.CacheDependencyGraph;
+import com.software.modsen.drivermicroservice.cache.CacheInvalidator;
+import com.software.modsen.drivermicroservice.cache.KnownIdRegistry;
+import com.software.modsen.drivermicroservice.configs.datasource.PrimaryReads;
 import com.software.modsen.drivermicroservice.entities.car.Car;
+import com.software.modsen.drivermicroservice.entities.page.KeysetPage;
+import com.software.modsen.drivermicroservice.entities.page.PageCursor;
 import com.software.modsen.drivermicroservice.exceptions.CarNotFoundException;
 import com.software.modsen.drivermicroservice.exceptions.CarWasDeletedException;
 import com.software.modsen.drivermicroservice.exceptions.DatabaseConnectionRefusedException;
@@ -20,7 +26,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.*;
 
@@ -28,10 +33,19 @@ import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.*;
 @AllArgsConstructor
 public class CarService {
     private CarRepository carRepository;
+    private KnownIdRegistry knownIdRegistry;
+    private CacheInvalidator cacheInvalidator;
 
-    @Cacheable(value = "CarService::getCarById", key = "#id")
+    @Cacheable(value = "CarService::getCarById", key = "#id",
+            condition = "@knownIdRegistry.mightContain('CAR', #id)")
+    @Transactional(readOnly = true)
     public Car getCarById(long id) {
-        Optional<Car> carFromDb = carRepository.findById(id);
+        if (!knownIdRegistry.mightExist(KnownIdRegistry.IdType.CAR, id)
+                || knownIdRegistry.isKnownMissing(KnownIdRegistry.IdType.CAR, id)) {
+            throw new CarNotFoundException(CAR_NOT_FOUND_MESSAGE);
+        }
+
+        Optional<Car> carFromDb = PrimaryReads.call(() -> carRepository.findById(id));
 
         if (carFromDb.isPresent()) {
             if (!carFromDb.get().isDeleted()) {
@@ -41,23 +55,32 @@ public class CarService {
             throw new CarWasDeletedException(CAR_WAS_DELETED_MESSAGE);
         }
 
+        knownIdRegistry.registerMissing(KnownIdRegistry.IdType.CAR, id);
+
         throw new CarNotFoundException(CAR_NOT_FOUND_MESSAGE);
     }
 
-    public List<Car> getAllCars(boolean includeDeleted) {
+    @Transactional(readOnly = true)
+    public KeysetPage<Car> getAllCars(boolean includeDeleted, String cursor, int size) {
+        long lastId = PageCursor.decode(cursor);
+        List<Car> cars;
+
         if (includeDeleted) {
-            return carRepository.findAll();
+            cars = carRepository.findByIdGreaterThanOrderById(lastId, PageCursor.fetchLimit(size));
         } else {
-            return carRepository.findAll().stream()
-                    .filter(car -> !car.isDeleted())
-                    .collect(Collectors.toList());
+            cars = carRepository.findByIdGreaterThanAndIsDeletedOrderById(lastId, false, PageCursor.fetchLimit(size));
         }
+
+        return KeysetPage.of(cars, size, Car::getId);
     }
 
     @Transactional
     @CachePut(value = "CarService::getCarById", key = "#newCar.id")
     public Car saveCar(Car newCar) {
-        return carRepository.save(newCar);
+        Car savedCar = carRepository.save(newCar);
+        knownIdRegistry.registerInserted(KnownIdRegistry.IdType.CAR, savedCar.getId());
+
+        return savedCar;
     }
 
     @CircuitBreaker(name = "simpleCircuitBreaker", fallbackMethod = "fallbackPostgresHandle")
@@ -69,6 +92,7 @@ public class CarService {
         if (carFromDb.isPresent()) {
             if (!carFromDb.get().isDeleted()) {
                 updatingCar.setId(id);
+                cacheInvalidator.invalidateDependents(CacheDependencyGraph.EntityType.CAR, id);
 
                 return carRepository.save(updatingCar);
             }
@@ -96,6 +120,7 @@ public class CarService {
                     updatingCar.setCarNumber(carFromDb.get().getCarNumber());
                 }
                 updatingCar.setId(id);
+                cacheInvalidator.invalidateDependents(CacheDependencyGraph.EntityType.CAR, id);
 
                 return carRepository.save(updatingCar);
             }
@@ -114,6 +139,7 @@ public class CarService {
         return carFromDb
                 .map(car -> {
                     car.setDeleted(true);
+                    cacheInvalidator.invalidateDependents(CacheDependencyGraph.EntityType.CAR, id);
                     return carRepository.save(car);
                 })
                 .orElseThrow(() -> new CarNotFoundException(CAR_NOT_FOUND_MESSAGE));
@@ -126,6 +152,7 @@ public class CarService {
         return carFromDb
                 .map(car -> {
                     car.setDeleted(false);
+                    cacheInvalidator.invalidateDependents(CacheDependencyGraph.EntityType.CAR, id);
                     return carRepository.save(car);
                 })
                 .orElseThrow(() -> new CarNotFoundException(CAR_NOT_FOUND_MESSAGE));
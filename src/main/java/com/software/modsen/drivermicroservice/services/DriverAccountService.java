@@ -1,8 +1,18 @@
 package com.software.modsen.drivermicroservice.services;
 
-import com.github.benmanes.caffeine.cache.Cache;
+import com.software.modsen.drivermicroservice.annotations.HotKey;
+import com.software.modsen.drivermicroservice.cache.BatchLookup;
+import com.software.modsen.drivermicroservice.cache.DriverAccountCache;
+import com.software.modsen.drivermicroservice.cache.DriverAccountInvalidationBus;
+import com.software.modsen.drivermicroservice.cache.HotKeyTracker;
+import com.software.modsen.drivermicroservice.cache.KnownIdRegistry;
+import com.software.modsen.drivermicroservice.cache.TransactionalCacheWriter;
+import com.software.modsen.drivermicroservice.configs.datasource.PrimaryReads;
 import com.software.modsen.drivermicroservice.entities.driver.Driver;
 import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccount;
+import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccountSummary;
+import com.software.modsen.drivermicroservice.entities.page.KeysetPage;
+import com.software.modsen.drivermicroservice.entities.page.PageCursor;
 import com.software.modsen.drivermicroservice.exceptions.*;
 import com.software.modsen.drivermicroservice.repositories.DriverAccountRepository;
 import com.software.modsen.drivermicroservice.repositories.DriverRepository;
@@ -16,9 +26,7 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.*;
 
 import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.*;
 
@@ -28,48 +36,70 @@ public class DriverAccountService {
     private DriverAccountRepository driverAccountRepository;
     private DriverRepository driverRepository;
 
-    private Cache<String, DriverAccount> cache;
+    private DriverAccountCache driverAccountCache;
+    private DriverAccountInvalidationBus driverAccountInvalidationBus;
+    private TransactionalCacheWriter cacheWriter;
+    private KnownIdRegistry knownIdRegistry;
+
+    @Transactional(readOnly = true)
+    public KeysetPage<DriverAccountSummary> getAllDriverAccounts(boolean includeDeleted, String cursor, int size) {
+        long lastId = PageCursor.decode(cursor);
+        List<DriverAccountSummary> driverAccounts;
 
-    public List<DriverAccount> getAllDriverAccounts(boolean includeDeleted) {
         if (includeDeleted) {
-            return driverAccountRepository.findAll();
+            driverAccounts = driverAccountRepository.findSummariesByIdGreaterThan(lastId, PageCursor.fetchLimit(size));
         } else {
-            return driverAccountRepository.findAll().stream()
-                    .filter(driverAccount -> driverRepository.existsByIdAndIsDeleted(
-                            driverAccount.getDriver().getId(), false))
-                    .collect(Collectors.toList());
+            driverAccounts = driverAccountRepository.findSummariesByIdGreaterThanAndDriverIsDeleted(lastId, false,
+                    PageCursor.fetchLimit(size));
         }
+
+        return KeysetPage.of(driverAccounts, size, DriverAccountSummary::id);
     }
 
+    @Transactional(readOnly = true)
+    @HotKey(HotKeyTracker.KeyType.DRIVER_ACCOUNT)
     public DriverAccount getDriverAccountById(long id) {
-        DriverAccount driverAccount = cache.getIfPresent("driverAccount:" + id);
+        if (!knownIdRegistry.mightExist(KnownIdRegistry.IdType.DRIVER_ACCOUNT, id)
+                || knownIdRegistry.isKnownMissing(KnownIdRegistry.IdType.DRIVER_ACCOUNT, id)) {
+            throw new DriverAccountNotFoundException(DRIVER_ACCOUNT_NOT_FOUND_MESSAGE);
+        }
+
+        DriverAccount driverAccount = driverAccountCache.getById(id);
 
         if (driverAccount != null) {
             return driverAccount;
         }
 
-        Optional<DriverAccount> driverAccountFromDb = driverAccountRepository.findById(id);
+        Optional<DriverAccount> driverAccountFromDb = PrimaryReads.call(() -> driverAccountRepository.findById(id));
 
         if (driverAccountFromDb.isPresent()) {
-            cache.put("driverAccount:" + id, driverAccountFromDb.get());
+            driverAccountCache.put(driverAccountFromDb.get());
             return driverAccountFromDb.get();
         }
 
+        knownIdRegistry.registerMissing(KnownIdRegistry.IdType.DRIVER_ACCOUNT, id);
+
         throw new DriverAccountNotFoundException(DRIVER_ACCOUNT_NOT_FOUND_MESSAGE);
     }
 
+    @Transactional(readOnly = true)
     public DriverAccount getDriverAccountByDriverId(long driverId) {
-        DriverAccount driverAccount = cache.getIfPresent("driverAccountDriverId:" + driverId);
+        DriverAccount driverAccount = driverAccountCache.getByDriverId(driverId);
 
         if (driverAccount != null) {
+            if (driverAccount.getDriver().isDeleted()) {
+                throw new DriverWasDeletedException(DRIVER_WAS_DELETED_MESSAGE);
+            }
+
             return driverAccount;
         }
 
-        Optional<DriverAccount> driverAccountFromDb = driverAccountRepository.findByDriverId(driverId);
+        Optional<DriverAccount> driverAccountFromDb = PrimaryReads.call(() ->
+                driverAccountRepository.findByDriverId(driverId));
 
         if (driverAccountFromDb.isPresent()) {
             if (!driverAccountFromDb.get().getDriver().isDeleted()) {
-                cache.put("driverAccountDriverId:" + driverId, driverAccountFromDb.get());
+                driverAccountCache.put(driverAccountFromDb.get());
                 return driverAccountFromDb.get();
             }
 
@@ -79,6 +109,40 @@ public class DriverAccountService {
         throw new DriverAccountNotFoundException(DRIVER_ACCOUNT_NOT_FOUND_MESSAGE);
     }
 
+    @Transactional(readOnly = true)
+    public List<DriverAccount> getDriverAccountsByDriverIds(List<Long> driverIds) {
+        List<Long> requestedIds = BatchLookup.distinctIds(driverIds);
+        Map<Long, DriverAccount> driverAccounts = new HashMap<>(requestedIds.size());
+        List<Long> missingIds = new ArrayList<>();
+
+        for (Long driverId : requestedIds) {
+            DriverAccount driverAccount = driverAccountCache.getByDriverId(driverId);
+
+            if (driverAccount != null) {
+                if (!driverAccount.getDriver().isDeleted()) {
+                    driverAccounts.put(driverId, driverAccount);
+                }
+            } else {
+                missingIds.add(driverId);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            for (DriverAccount driverAccount : PrimaryReads.call(() ->
+                    driverAccountRepository.findAllByDriverIdIn(missingIds))) {
+                if (!driverAccount.getDriver().isDeleted()) {
+                    driverAccountCache.put(driverAccount);
+                    driverAccounts.put(driverAccount.getDriver().getId(), driverAccount);
+                }
+            }
+        }
+
+        return requestedIds.stream()
+                .map(driverAccounts::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @CircuitBreaker(name = "simpleCircuitBreaker", fallbackMethod = "fallbackPostgresHandle")
     @Transactional
     public DriverAccount increaseBalance(long driverId, DriverAccount updatingDriverAccount) {
@@ -94,8 +158,10 @@ public class DriverAccountService {
                         + driverAccountFromDb.get().getBalance();
                 updatingDriverAccount.setBalance(increasingBalance);
 
-                cache.put("driverAccount:" + updatingDriverAccount.getId(), updatingDriverAccount);
-                cache.put("driverAccountDriverId:" + driverId, updatingDriverAccount);
+                cacheWriter.afterCommit(() -> {
+                    driverAccountCache.put(updatingDriverAccount);
+                    driverAccountInvalidationBus.publishChange(updatingDriverAccount.getId());
+                });
 
                 return driverAccountRepository.save(updatingDriverAccount);
             }
@@ -122,8 +188,10 @@ public class DriverAccountService {
                 if (increasingBalance >= 0) {
                     updatingDriverAccount.setBalance(increasingBalance);
 
-                    cache.put("driverAccount:" + updatingDriverAccount.getId(), updatingDriverAccount);
-                    cache.put("driverAccountDriverId:" + driverId, updatingDriverAccount);
+                    cacheWriter.afterCommit(() -> {
+                        driverAccountCache.put(updatingDriverAccount);
+                        driverAccountInvalidationBus.publishChange(updatingDriverAccount.getId());
+                    });
 
                     return driverAccountRepository.save(updatingDriverAccount);
                 } else {
@@ -0,0 +1,167 @@
+package com.software.modsen.drivermicroservice.services;
+
+import com.software.modsen.drivermicroservice.cache.KnownIdRegistry;
+import com.software.modsen.drivermicroservice.entities.car.Car;
+import com.software.modsen.drivermicroservice.entities.driver.Driver;
+import com.software.modsen.drivermicroservice.entities.driver.DriverDto;
+import com.software.modsen.drivermicroservice.entities.driver.DriverOnboardingResult;
+import com.software.modsen.drivermicroservice.exceptions.TooManyDriversToOnboardException;
+import com.software.modsen.drivermicroservice.mappers.DriverMapper;
+import com.software.modsen.drivermicroservice.observer.DriverSubject;
+import com.software.modsen.drivermicroservice.repositories.CarRepository;
+import com.software.modsen.drivermicroservice.repositories.DriverRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.*;
+
+@Service
+public class DriverOnboardingService {
+    private final DriverRepository driverRepository;
+    private final CarRepository carRepository;
+    private final DriverSubject driverSubject;
+    private final KnownIdRegistry knownIdRegistry;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final DriverMapper DRIVER_MAPPER = DriverMapper.INSTANCE;
+
+    private static final int MAX_DRIVERS_PER_REQUEST = 10_000;
+
+    public DriverOnboardingService(DriverRepository driverRepository,
+                                   CarRepository carRepository,
+                                   DriverSubject driverSubject,
+                                   KnownIdRegistry knownIdRegistry,
+                                   Validator validator,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int chunkSize) {
+        this.driverRepository = driverRepository;
+        this.carRepository = carRepository;
+        this.driverSubject = driverSubject;
+        this.knownIdRegistry = knownIdRegistry;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public List<DriverOnboardingResult> onboardDrivers(List<DriverDto> driverDtos) {
+        if (driverDtos.size() > MAX_DRIVERS_PER_REQUEST) {
+            throw new TooManyDriversToOnboardException(String.format(TOO_MANY_DRIVERS_TO_ONBOARD_MESSAGE,
+                    MAX_DRIVERS_PER_REQUEST));
+        }
+
+        DriverOnboardingResult[] results = new DriverOnboardingResult[driverDtos.size()];
+
+        for (int from = 0; from < driverDtos.size(); from += chunkSize) {
+            onboardChunk(driverDtos, from, Math.min(from + chunkSize, driverDtos.size()), results);
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private void onboardChunk(List<DriverDto> driverDtos, int from, int to, DriverOnboardingResult[] results) {
+        List<Integer> validIndexes = new ArrayList<>(to - from);
+
+        for (int index = from; index < to; index++) {
+            if (driverDtos.get(index) == null) {
+                results[index] = DriverOnboardingResult.failed(index, JSON_MAPPING_MESSAGE);
+                continue;
+            }
+
+            Set<ConstraintViolation<DriverDto>> violations = validator.validate(driverDtos.get(index));
+
+            if (violations.isEmpty()) {
+                validIndexes.add(index);
+            } else {
+                results[index] = DriverOnboardingResult.failed(index, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(" ")));
+            }
+        }
+
+        if (validIndexes.isEmpty()) {
+            return;
+        }
+
+        try {
+            saveDrivers(driverDtos, validIndexes, results);
+        } catch (DataIntegrityViolationException exception) {
+            for (int index : validIndexes) {
+                if (results[index] == null) {
+                    saveDriverAlone(driverDtos, index, results);
+                }
+            }
+        }
+    }
+
+    private void saveDriverAlone(List<DriverDto> driverDtos, int index, DriverOnboardingResult[] results) {
+        try {
+            saveDrivers(driverDtos, List.of(index), results);
+        } catch (DataIntegrityViolationException exception) {
+            results[index] = DriverOnboardingResult.failed(index, DATA_INTEGRITY_VIOLENT_MESSAGE);
+        }
+    }
+
+    private void saveDrivers(List<DriverDto> driverDtos, List<Integer> indexes, DriverOnboardingResult[] results) {
+        List<DriverOnboardingResult> createdResults = transactionTemplate.execute(status -> {
+            Map<Long, Car> cars = carRepository.findAllById(indexes.stream()
+                            .map(index -> driverDtos.get(index).carId())
+                            .collect(Collectors.toSet()))
+                    .stream()
+                    .collect(Collectors.toMap(Car::getId, Function.identity()));
+
+            List<Driver> drivers = new ArrayList<>(indexes.size());
+            List<Integer> driverIndexes = new ArrayList<>(indexes.size());
+
+            for (int index : indexes) {
+                DriverDto driverDto = driverDtos.get(index);
+                Car car = cars.get(driverDto.carId());
+
+                if (car == null) {
+                    results[index] = DriverOnboardingResult.failed(index, CAR_NOT_FOUND_MESSAGE);
+                } else if (car.isDeleted()) {
+                    results[index] = DriverOnboardingResult.failed(index, CAR_WAS_DELETED_MESSAGE);
+                } else {
+                    Driver driver = DRIVER_MAPPER.fromDriverDtoToDriver(driverDto);
+                    driver.setCar(car);
+
+                    drivers.add(driver);
+                    driverIndexes.add(index);
+                }
+            }
+
+            if (drivers.isEmpty()) {
+                return List.of();
+            }
+
+            driverRepository.saveAll(drivers);
+            knownIdRegistry.registerInserted(KnownIdRegistry.IdType.DRIVER, drivers.stream()
+                    .map(Driver::getId)
+                    .toList());
+            driverSubject.notifyDriverObservers(drivers);
+            driverRepository.flush();
+
+            List<DriverOnboardingResult> created = new ArrayList<>(drivers.size());
+
+            for (int i = 0; i < drivers.size(); i++) {
+                created.add(DriverOnboardingResult.created(driverIndexes.get(i), drivers.get(i).getId()));
+            }
+
+            return created;
+        });
+
+        for (DriverOnboardingResult createdResult : createdResults) {
+            results[createdResult.index()] = createdResult;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.software.modsen.drivermicroservice.services;
+
+import com.software.modsen.drivermicroservice.entities.driver.Driver;
+import com.software.modsen.drivermicroservice.entities.driver.DriverProfile;
+import com.software.modsen.drivermicroservice.entities.driver.DriverProfile.PartStatus;
+import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccount;
+import com.software.modsen.drivermicroservice.entities.driver.rating.DriverRating;
+import com.software.modsen.drivermicroservice.exceptions.DriverAccountNotFoundException;
+import com.software.modsen.drivermicroservice.exceptions.DriverNotFoundException;
+import com.software.modsen.drivermicroservice.exceptions.DriverRatingNotFoundException;
+import com.software.modsen.drivermicroservice.exceptions.DriverWasDeletedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.DRIVER_NOT_FOUND_MESSAGE;
+
+@Slf4j
+@Service
+public class DriverProfileService {
+    private final DriverService driverService;
+    private final DriverRatingService driverRatingService;
+    private final DriverAccountService driverAccountService;
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final long timeoutMillis;
+
+    public static final String DRIVER_PART = "driver";
+    public static final String RATING_PART = "rating";
+    public static final String ACCOUNT_PART = "account";
+
+    public DriverProfileService(DriverService driverService,
+                                DriverRatingService driverRatingService,
+                                DriverAccountService driverAccountService,
+                                MeterRegistry meterRegistry,
+                                @Value("${driver-profile.threads:16}") int threads,
+                                @Value("${driver-profile.queue-capacity:200}") int queueCapacity,
+                                @Value("${driver-profile.timeout-ms:300}") long timeoutMillis) {
+        this.driverService = driverService;
+        this.driverRatingService = driverRatingService;
+        this.driverAccountService = driverAccountService;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "driver-profile");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.meterRegistry = meterRegistry;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public DriverProfile getDriverProfile(long driverId) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        Future<Driver> driver = submit(() -> driverService.getDriverById(driverId));
+        Future<DriverRating> rating = submit(() -> driverRatingService.getDriverRatingByDriverId(driverId));
+        Future<DriverAccount> account = submit(() ->
+                driverAccountService.getDriverAccountByDriverId(driverId));
+
+        Map<String, PartStatus> status = new LinkedHashMap<>();
+        Driver driverPart = await(DRIVER_PART, driver, deadline, status);
+
+        if (status.get(DRIVER_PART) == PartStatus.NOT_FOUND) {
+            rating.cancel(false);
+            account.cancel(false);
+
+            throw new DriverNotFoundException(DRIVER_NOT_FOUND_MESSAGE);
+        }
+
+        DriverRating ratingPart = await(RATING_PART, rating, deadline, status);
+        DriverAccount accountPart = await(ACCOUNT_PART, account, deadline, status);
+
+        return new DriverProfile(driverPart, ratingPart, accountPart, status);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    private <T> T await(String part, Future<T> future, long deadline, Map<String, PartStatus> status) {
+        PartStatus partStatus;
+        T value = null;
+
+        try {
+            value = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            partStatus = PartStatus.OK;
+        } catch (TimeoutException exception) {
+            future.cancel(false);
+            partStatus = PartStatus.TIMEOUT;
+        } catch (ExecutionException exception) {
+            partStatus = statusOf(exception.getCause());
+
+            if (partStatus == PartStatus.FAILED) {
+                log.warn("Cannot load driver profile {}: {}", part, exception.getCause().getMessage());
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            partStatus = PartStatus.FAILED;
+        }
+
+        status.put(part, partStatus);
+        meterRegistry.counter("driver.profile.parts", "part", part, "status", partStatus.name()).increment();
+
+        return value;
+    }
+
+    private static PartStatus statusOf(Throwable exception) {
+        if (exception instanceof DriverNotFoundException
+                || exception instanceof DriverRatingNotFoundException
+                || exception instanceof DriverAccountNotFoundException) {
+            return PartStatus.NOT_FOUND;
+        }
+
+        if (exception instanceof DriverWasDeletedException) {
+            return PartStatus.DELETED;
+        }
+
+        return PartStatus.FAILED;
+    }
+}
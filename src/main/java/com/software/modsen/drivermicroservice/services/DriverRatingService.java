@@ -2,8 +2,13 @@ package com.software.modsen.drivermicroservice.services;
 
 import com.software.modsen.drivermicroservice.annotations.CacheableMethod;
 import com.software.modsen.drivermicroservice.annotations.CacheableUpdateMethod;
-import com.software.modsen.drivermicroservice.entities.driver.Driver;
+import com.software.modsen.drivermicroservice.annotations.HotKey;
+import com.software.modsen.drivermicroservice.cache.BatchLookup;
+import com.software.modsen.drivermicroservice.cache.HotKeyTracker;
+import com.software.modsen.drivermicroservice.configs.datasource.PrimaryReads;
 import com.software.modsen.drivermicroservice.entities.driver.rating.DriverRating;
+import com.software.modsen.drivermicroservice.entities.page.KeysetPage;
+import com.software.modsen.drivermicroservice.entities.page.PageCursor;
 import com.software.modsen.drivermicroservice.exceptions.DatabaseConnectionRefusedException;
 import com.software.modsen.drivermicroservice.exceptions.DriverNotFoundException;
 import com.software.modsen.drivermicroservice.exceptions.DriverRatingNotFoundException;
@@ -17,9 +22,7 @@ import org.springframework.retry.annotation.Recover;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.*;
@@ -29,32 +32,30 @@ import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.*;
 public class DriverRatingService {
     private DriverRatingRepository driverRatingRepository;
     private DriverRepository driverRepository;
+    private RedisService redisService;
 
-    public List<DriverRating> getAllDriverRatings(boolean includeDeleted) {
-        if (includeDeleted) {
-            return driverRatingRepository.findAll();
-        } else {
-            List<DriverRating> driverRatingsFromDb = driverRatingRepository.findAll();
-            List<DriverRating> driverRatingsAndNotDeleted = new ArrayList<>();
-
-            for (DriverRating driverRatingFromDb : driverRatingsFromDb) {
-                Optional<Driver> driverFromDb = driverRepository
-                        .findDriverByIdAndIsDeleted(driverRatingFromDb.getDriver().getId(), false);
+    private static final String DRIVER_RATING_BY_DRIVER_ID_KEY_PREFIX = "driverRatingByDriverId:";
+    private static final long TTL_HOURS = 1;
 
-                if (driverFromDb.isPresent()) {
-                    driverRatingsAndNotDeleted.add(driverRatingFromDb);
-                }
-            }
+    @Transactional(readOnly = true)
+    public KeysetPage<DriverRating> getAllDriverRatings(boolean includeDeleted, String cursor, int size) {
+        long lastId = PageCursor.decode(cursor);
+        List<DriverRating> driverRatings;
 
-            if (driverRatingsAndNotDeleted.isEmpty()) {
-                throw new DriverNotFoundException(DRIVER_NOT_FOUND_MESSAGE);
-            }
-
-            return driverRatingsAndNotDeleted;
+        if (includeDeleted) {
+            driverRatings = driverRatingRepository.findByIdGreaterThanOrderById(lastId, PageCursor.fetchLimit(size));
+        } else {
+            driverRatings = driverRatingRepository.findByIdGreaterThanAndDriver_IsDeletedOrderById(lastId, false,
+                    PageCursor.fetchLimit(size));
         }
+
+        return KeysetPage.of(driverRatings, size, DriverRating::getId);
     }
 
-    @CacheableMethod(ttl = 15L)
+    @CacheableMethod(namespace = "driverRating", key = "#id", ttl = 1L, timeUnit = TimeUnit.HOURS,
+            refreshAheadFactor = 0.8)
+    @Transactional(readOnly = true)
+    @HotKey(HotKeyTracker.KeyType.DRIVER_RATING)
     public DriverRating getDriverRatingById(long id) {
         Optional<DriverRating> driverRatingFromDb = driverRatingRepository.findById(id);
 
@@ -65,7 +66,9 @@ public class DriverRatingService {
         throw new DriverNotFoundException(DRIVER_RATING_NOT_FOUND_MESSAGE);
     }
 
-    @CacheableMethod(ttl = 20L)
+    @CacheableMethod(namespace = "driverRatingByDriverId", key = "#driverId", ttl = 1L, timeUnit = TimeUnit.HOURS,
+            refreshAheadFactor = 0.8)
+    @Transactional(readOnly = true)
     public DriverRating getDriverRatingByDriverId(long driverId) {
         Optional<DriverRating> driverRatingFromDb = driverRatingRepository.findByDriverId(driverId);
 
@@ -80,9 +83,48 @@ public class DriverRatingService {
         throw new DriverNotFoundException(DRIVER_RATING_NOT_FOUND_MESSAGE);
     }
 
+    @Transactional(readOnly = true)
+    public List<DriverRating> getDriverRatingsByDriverIds(List<Long> driverIds) {
+        List<Long> requestedIds = BatchLookup.distinctIds(driverIds);
+        List<Object> cachedDriverRatings = redisService.getAllFromCache(
+                BatchLookup.keys(DRIVER_RATING_BY_DRIVER_ID_KEY_PREFIX, requestedIds));
+        Map<Long, DriverRating> driverRatings = new HashMap<>(requestedIds.size());
+        List<Long> missingIds = new ArrayList<>();
+
+        for (int i = 0; i < requestedIds.size(); i++) {
+            if (cachedDriverRatings.get(i) instanceof DriverRating cachedDriverRating) {
+                driverRatings.put(requestedIds.get(i), cachedDriverRating);
+            } else {
+                missingIds.add(requestedIds.get(i));
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            Map<String, Object> loadedDriverRatings = new HashMap<>(missingIds.size());
+
+            for (DriverRating driverRating : PrimaryReads.call(() ->
+                    driverRatingRepository.findAllByDriverIdIn(missingIds))) {
+                if (!driverRating.getDriver().isDeleted()) {
+                    driverRatings.put(driverRating.getDriver().getId(), driverRating);
+                    loadedDriverRatings.put(DRIVER_RATING_BY_DRIVER_ID_KEY_PREFIX + driverRating.getDriver().getId(),
+                            driverRating);
+                }
+            }
+
+            redisService.saveAllToCache(loadedDriverRatings, TTL_HOURS, TimeUnit.HOURS);
+        }
+
+        return requestedIds.stream()
+                .map(driverRatings::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @CircuitBreaker(name = "simpleCircuitBreaker", fallbackMethod = "fallbackPostgresHandle")
     @Transactional
-    @CacheableUpdateMethod
+    @CacheableUpdateMethod(namespace = "driverRating", key = "#id", ttl = 1L, timeUnit = TimeUnit.HOURS)
+    @CacheableUpdateMethod(namespace = "driverRatingByDriverId", key = "#result.driver.id",
+            ttl = 1L, timeUnit = TimeUnit.HOURS)
     public DriverRating putDriverRatingById(long id, DriverRating updatingDriverRating) {
         Optional<DriverRating> driverRatingFromDb = driverRatingRepository.findById(id);
 
@@ -102,7 +144,9 @@ public class DriverRatingService {
     }
 
     @Transactional
-    @CacheableUpdateMethod(ttl = 1L, timeUnit = TimeUnit.HOURS)
+    @CacheableUpdateMethod(namespace = "driverRating", key = "#id", ttl = 1L, timeUnit = TimeUnit.HOURS)
+    @CacheableUpdateMethod(namespace = "driverRatingByDriverId", key = "#result.driver.id",
+            ttl = 1L, timeUnit = TimeUnit.HOURS)
     public DriverRating patchDriverRatingById(long id,
                                               DriverRating updatingDriverRating) {
         Optional<DriverRating> driverRatingFromDb = driverRatingRepository.findById(id);
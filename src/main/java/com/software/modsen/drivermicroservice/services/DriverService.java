@@ -1,7 +1,18 @@
 package com.software.modsen.drivermicroservice.services;
 
+import com.software.modsen.drivermicroservice.annotations.HotKey;
+import com.software.modsen.drivermicroservice.cache.BatchLookup;
+import com.software.modsen.drivermicroservice.cache.CacheDependencyGraph;
+import com.software.modsen.drivermicroservice.cache.CacheInvalidator;
+import com.software.modsen.drivermicroservice.cache.HotKeyTracker;
+import com.software.modsen.drivermicroservice.cache.KnownIdRegistry;
+import com.software.modsen.drivermicroservice.cache.SingleFlightLoader;
+import com.software.modsen.drivermicroservice.cache.TransactionalCacheWriter;
+import com.software.modsen.drivermicroservice.configs.datasource.PrimaryReads;
 import com.software.modsen.drivermicroservice.entities.car.Car;
 import com.software.modsen.drivermicroservice.entities.driver.Driver;
+import com.software.modsen.drivermicroservice.entities.page.KeysetPage;
+import com.software.modsen.drivermicroservice.entities.page.PageCursor;
 import com.software.modsen.drivermicroservice.exceptions.*;
 import com.software.modsen.drivermicroservice.observer.DriverSubject;
 import com.software.modsen.drivermicroservice.repositories.CarRepository;
@@ -16,10 +27,8 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.*;
 
@@ -30,21 +39,33 @@ public class DriverService {
     private CarRepository carRepository;
     private DriverSubject driverSubject;
     private RedisService redisService;
+    private TransactionalCacheWriter cacheWriter;
+    private CacheInvalidator cacheInvalidator;
+    private SingleFlightLoader singleFlightLoader;
+    private KnownIdRegistry knownIdRegistry;
 
-    private static final int TTL = 10;
+    private static final int TTL = 60;
 
-    public List<Driver> getAllDrivers(boolean includeDeleted, String name) {
+    @Transactional(readOnly = true)
+    public KeysetPage<Driver> getAllDrivers(boolean includeDeleted, String name, String cursor, int size) {
         if (name != null) {
-            return List.of(getDriverByName(name));
-        } else if (includeDeleted) {
-            return driverRepository.findAll();
+            return KeysetPage.single(getDriverByName(name));
+        }
+
+        long lastId = PageCursor.decode(cursor);
+        List<Driver> drivers;
+
+        if (includeDeleted) {
+            drivers = driverRepository.findByIdGreaterThanOrderById(lastId, PageCursor.fetchLimit(size));
         } else {
-            return driverRepository.findAll().stream()
-                    .filter(driver -> !driver.isDeleted())
-                    .collect(Collectors.toList());
+            drivers = driverRepository.findByIdGreaterThanAndIsDeletedOrderById(lastId, false,
+                    PageCursor.fetchLimit(size));
         }
+
+        return KeysetPage.of(drivers, size, Driver::getId);
     }
 
+    @Transactional(readOnly = true)
     public Driver getDriverByName(String name) {
         Object cachedDriver = redisService.getFromCache("driver:" + name);
 
@@ -52,7 +73,11 @@ public class DriverService {
             return (Driver) cachedDriver;
         }
 
-        Optional<Driver> driverFromDb = driverRepository.findByName(name);
+        return singleFlightLoader.load("driver:" + name, () -> loadDriverByName(name));
+    }
+
+    private Driver loadDriverByName(String name) {
+        Optional<Driver> driverFromDb = PrimaryReads.call(() -> driverRepository.findByName(name));
 
         if (driverFromDb.isPresent()) {
             redisService.saveToCache("driver:" + name, driverFromDb.get(), TTL, TimeUnit.MINUTES);
@@ -63,15 +88,66 @@ public class DriverService {
         throw new DriverNotFoundException(DRIVER_NOT_FOUND_MESSAGE);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    @HotKey(HotKeyTracker.KeyType.DRIVER)
     public Driver getDriverById(long id) {
+        if (!knownIdRegistry.mightExist(KnownIdRegistry.IdType.DRIVER, id)
+                || knownIdRegistry.isKnownMissing(KnownIdRegistry.IdType.DRIVER, id)) {
+            throw new DriverNotFoundException(DRIVER_NOT_FOUND_MESSAGE);
+        }
+
         Object cachedDriver = redisService.getFromCache("driver:" + id);
 
         if (cachedDriver != null) {
             return (Driver) cachedDriver;
         }
 
-        Optional<Driver> driverFromDb = driverRepository.findById(id);
+        return singleFlightLoader.load("driver:" + id, () -> loadDriverById(id));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Driver> getDriversByIds(List<Long> ids) {
+        List<Long> requestedIds = BatchLookup.distinctIds(ids).stream()
+                .filter(id -> knownIdRegistry.mightExist(KnownIdRegistry.IdType.DRIVER, id)
+                        && !knownIdRegistry.isKnownMissing(KnownIdRegistry.IdType.DRIVER, id))
+                .toList();
+        List<Object> cachedDrivers = redisService.getAllFromCache(BatchLookup.keys("driver:", requestedIds));
+        Map<Long, Driver> drivers = new HashMap<>(requestedIds.size());
+        List<Long> missingIds = new ArrayList<>();
+
+        for (int i = 0; i < requestedIds.size(); i++) {
+            if (cachedDrivers.get(i) instanceof Driver cachedDriver) {
+                drivers.put(requestedIds.get(i), cachedDriver);
+            } else {
+                missingIds.add(requestedIds.get(i));
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            Map<String, Object> loadedDrivers = new HashMap<>(missingIds.size());
+
+            for (Driver driver : PrimaryReads.call(() -> driverRepository.findAllWithCarByIdIn(missingIds))) {
+                drivers.put(driver.getId(), driver);
+                loadedDrivers.put("driver:" + driver.getId(), driver);
+            }
+
+            redisService.saveAllToCache(loadedDrivers, TTL, TimeUnit.MINUTES);
+
+            for (Long id : missingIds) {
+                if (!drivers.containsKey(id)) {
+                    knownIdRegistry.registerMissing(KnownIdRegistry.IdType.DRIVER, id);
+                }
+            }
+        }
+
+        return requestedIds.stream()
+                .map(drivers::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Driver loadDriverById(long id) {
+        Optional<Driver> driverFromDb = PrimaryReads.call(() -> driverRepository.findById(id));
 
         if (driverFromDb.isPresent()) {
             redisService.saveToCache("driver:" + id, driverFromDb.get(), TTL, TimeUnit.MINUTES);
@@ -79,6 +155,8 @@ public class DriverService {
             return driverFromDb.get();
         }
 
+        knownIdRegistry.registerMissing(KnownIdRegistry.IdType.DRIVER, id);
+
         throw new DriverNotFoundException(DRIVER_NOT_FOUND_MESSAGE);
     }
 
@@ -90,11 +168,12 @@ public class DriverService {
 
             newDriver.setCar(carFromDb.get());
             Driver driverFromDb = driverRepository.save(newDriver);
+            knownIdRegistry.registerInserted(KnownIdRegistry.IdType.DRIVER, driverFromDb.getId());
 
             driverSubject.notifyDriverObservers(driverFromDb.getId());
 
-            redisService.saveToCache("driver:" + driverFromDb.getId(), driverFromDb, TTL, TimeUnit.MINUTES);
-            redisService.saveToCache("driver:" + driverFromDb.getName(), driverFromDb, TTL, TimeUnit.MINUTES);
+            cacheWriter.saveToCache("driver:" + driverFromDb.getId(), driverFromDb, TTL, TimeUnit.MINUTES);
+            cacheWriter.saveToCache("driver:" + driverFromDb.getName(), driverFromDb, TTL, TimeUnit.MINUTES);
 
             return driverFromDb;
         }
@@ -108,16 +187,16 @@ public class DriverService {
         Optional<Car> carFromDb = carRepository.findById(carId);
 
         if (carFromDb.isPresent()) {
-            Optional<Driver> driverFromDb = driverRepository.findById(id);
+            Optional<Driver> driverFromDb = driverRepository.findByIdForUpdate(id);
 
             if (driverFromDb.isPresent()) {
-                redisService.invalidateCache("driver:" + id);
+                cacheInvalidator.invalidate(CacheDependencyGraph.EntityType.DRIVER, id);
 
                 if (!driverFromDb.get().isDeleted()) {
                     updatingDriver.setId(id);
                     updatingDriver.setCar(carFromDb.get());
 
-                    redisService.saveToCache("driver:" + id, updatingDriver, TTL, TimeUnit.MINUTES);
+                    cacheWriter.saveToCache("driver:" + id, updatingDriver, TTL, TimeUnit.MINUTES);
 
                     return driverRepository.save(updatingDriver);
                 }
@@ -133,7 +212,7 @@ public class DriverService {
 
     @Transactional
     public Driver patchDriver(long id, Long carId, Driver updatingDriver) {
-        Optional<Driver> driverFromDb = driverRepository.findById(id);
+        Optional<Driver> driverFromDb = driverRepository.findByIdForUpdate(id);
 
         if (driverFromDb.isPresent()) {
             if (!driverFromDb.get().isDeleted()) {
@@ -170,8 +249,8 @@ public class DriverService {
 
                 updatingDriver.setId(id);
 
-                redisService.invalidateCache("driver:" + id);
-                redisService.saveToCache("driver:" + id, updatingDriver, TTL, TimeUnit.MINUTES);
+                cacheInvalidator.invalidate(CacheDependencyGraph.EntityType.DRIVER, id);
+                cacheWriter.saveToCache("driver:" + id, updatingDriver, TTL, TimeUnit.MINUTES);
 
                 return driverRepository.save(updatingDriver);
             }
@@ -184,9 +263,9 @@ public class DriverService {
 
     @Transactional
     public Driver softDeleteDriverById(long id) {
-        redisService.invalidateCache("driver:" + id);
+        cacheInvalidator.invalidate(CacheDependencyGraph.EntityType.DRIVER, id);
 
-        Optional<Driver> driverFromDb = driverRepository.findById(id);
+        Optional<Driver> driverFromDb = driverRepository.findByIdForUpdate(id);
 
         return driverFromDb
                 .map(driver -> {
@@ -198,12 +277,14 @@ public class DriverService {
 
     @Transactional
     public Driver softRecoveryDriverById(long id) {
-        Optional<Driver> driverFromDb = driverRepository.findById(id);
+        Optional<Driver> driverFromDb = driverRepository.findByIdForUpdate(id);
 
         if (driverFromDb.isPresent()) {
             Driver recoveringDriver = driverFromDb.get();
             recoveringDriver.setDeleted(false);
 
+            cacheInvalidator.invalidate(CacheDependencyGraph.EntityType.DRIVER, id);
+
             return driverRepository.save(recoveringDriver);
         }
 
@@ -0,0 +1,76 @@
+package com.software.modsen.drivermicroservice.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.software.modsen.drivermicroservice.repositories.CarRepository;
+import com.software.modsen.drivermicroservice.repositories.DriverAccountRepository;
+import com.software.modsen.drivermicroservice.repositories.DriverRatingRepository;
+import com.software.modsen.drivermicroservice.repositories.DriverRepository;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@AllArgsConstructor
+public class ExportService {
+    private DriverRepository driverRepository;
+    private CarRepository carRepository;
+    private DriverAccountRepository driverAccountRepository;
+    private DriverRatingRepository driverRatingRepository;
+    private EntityManager entityManager;
+    private ObjectMapper objectMapper;
+
+    private static final int CLEAR_INTERVAL = 1000;
+
+    @Transactional(readOnly = true)
+    public void exportDrivers(OutputStream outputStream) throws IOException {
+        try (Stream<?> drivers = driverRepository.streamAll()) {
+            writeNdjson(drivers, outputStream);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportCars(OutputStream outputStream) throws IOException {
+        try (Stream<?> cars = carRepository.streamAllByOrderById()) {
+            writeNdjson(cars, outputStream);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportDriverAccounts(OutputStream outputStream) throws IOException {
+        try (Stream<?> driverAccounts = driverAccountRepository.streamAll()) {
+            writeNdjson(driverAccounts, outputStream);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportDriverRatings(OutputStream outputStream) throws IOException {
+        try (Stream<?> driverRatings = driverRatingRepository.streamAll()) {
+            writeNdjson(driverRatings, outputStream);
+        }
+    }
+
+    private void writeNdjson(Stream<?> entities, OutputStream outputStream) throws IOException {
+        Iterator<?> iterator = entities.iterator();
+        long written = 0;
+
+        while (iterator.hasNext()) {
+            Object entity = iterator.next();
+            outputStream.write(objectMapper.writeValueAsBytes(entity));
+            outputStream.write('\n');
+            entityManager.detach(entity);
+
+            if (++written % CLEAR_INTERVAL == 0) {
+                entityManager.clear();
+                outputStream.flush();
+            }
+        }
+
+        outputStream.flush();
+    }
+}
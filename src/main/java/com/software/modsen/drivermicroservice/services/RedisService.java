@@ -1,26 +1,242 @@
 package com.software.modsen.drivermicroservice.services;
 
-import com.software.modsen.drivermicroservice.entities.driver.Driver;
-import lombok.AllArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.software.modsen.drivermicroservice.cache.ClientSideCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 @Service
-@AllArgsConstructor
 public class RedisService {
-    private RedisTemplate<String, Object> template;
+    private final RedisTemplate<String, Object> template;
+    private final Cache<String, Object> nearCache;
+    private final ClientSideCache clientSideCache;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Counter nearCacheHits;
+    private final Counter nearCacheMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public static final String INVALIDATION_CHANNEL = "cache-invalidation";
+    private static final String INVALIDATION_SEPARATOR = "|";
+
+    public RedisService(RedisTemplate<String, Object> template,
+                        Cache<String, Object> nearCache,
+                        ClientSideCache clientSideCache,
+                        RedisMessageListenerContainer listenerContainer,
+                        MeterRegistry meterRegistry) {
+        this.template = template;
+        this.nearCache = nearCache;
+        this.clientSideCache = clientSideCache;
+        this.nearCacheHits = tierCounter(meterRegistry, "l1", "hit");
+        this.nearCacheMisses = tierCounter(meterRegistry, "l1", "miss");
+        this.redisHits = tierCounter(meterRegistry, "l2", "hit");
+        this.redisMisses = tierCounter(meterRegistry, "l2", "miss");
+
+        tierHitRatio(meterRegistry, "l1", nearCacheHits, nearCacheMisses);
+        tierHitRatio(meterRegistry, "l2", redisHits, redisMisses);
+
+        listenerContainer.addMessageListener(this::onInvalidation, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
 
     public Object getFromCache(String key) {
-        return template.opsForValue().get(key);
+        Object value = nearCache.getIfPresent(key);
+
+        if (value != null) {
+            nearCacheHits.increment();
+            return value;
+        }
+
+        nearCacheMisses.increment();
+        value = clientSideCache.get(key, template.opsForValue()::get);
+
+        if (value != null) {
+            redisHits.increment();
+            nearCache.put(key, value);
+        } else {
+            redisMisses.increment();
+        }
+
+        return value;
+    }
+
+    public List<Object> getAllFromCache(List<String> keys) {
+        Object[] values = new Object[keys.size()];
+        List<String> missingKeys = new ArrayList<>();
+        List<Integer> missingIndexes = new ArrayList<>();
+
+        for (int i = 0; i < keys.size(); i++) {
+            values[i] = nearCache.getIfPresent(keys.get(i));
+
+            if (values[i] == null) {
+                missingKeys.add(keys.get(i));
+                missingIndexes.add(i);
+            }
+        }
+
+        nearCacheHits.increment(keys.size() - missingKeys.size());
+        nearCacheMisses.increment(missingKeys.size());
+
+        if (missingKeys.isEmpty()) {
+            return Arrays.asList(values);
+        }
+
+        List<Object> redisValues = template.opsForValue().multiGet(missingKeys);
+        int hits = 0;
+
+        for (int i = 0; redisValues != null && i < missingKeys.size(); i++) {
+            Object value = redisValues.get(i);
+
+            if (value != null) {
+                values[missingIndexes.get(i)] = value;
+                nearCache.put(missingKeys.get(i), value);
+                hits++;
+            }
+        }
+
+        redisHits.increment(hits);
+        redisMisses.increment(missingKeys.size() - hits);
+
+        return Arrays.asList(values);
+    }
+
+    public CachedValue getFromCacheWithExpiration(String key) {
+        Object value = nearCache.getIfPresent(key);
+
+        if (value != null) {
+            nearCacheHits.increment();
+            return new CachedValue(value, CachedValue.UNKNOWN_EXPIRATION);
+        }
+
+        nearCacheMisses.increment();
+        List<Object> results = template.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForValue().get(key);
+                operations.getExpire(key, TimeUnit.MILLISECONDS);
+
+                return null;
+            }
+        });
+        value = results.get(0);
+
+        if (value == null) {
+            redisMisses.increment();
+            return null;
+        }
+
+        redisHits.increment();
+        nearCache.put(key, value);
+
+        return new CachedValue(value, results.get(1) instanceof Long expiration && expiration >= 0
+                ? expiration
+                : CachedValue.UNKNOWN_EXPIRATION);
     }
 
     public void saveToCache(String key, Object object, long ttl, TimeUnit timeUnit) {
         template.opsForValue().set(key, object, ttl, timeUnit);
+        nearCache.put(key, object);
+        publishInvalidation(key);
+    }
+
+    public void saveAllToCache(Map<String, Object> values, long ttl, TimeUnit timeUnit) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        template.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (Map.Entry<String, Object> value : values.entrySet()) {
+                    operations.opsForValue().set(value.getKey(), value.getValue(), ttl, timeUnit);
+                    operations.convertAndSend(INVALIDATION_CHANNEL,
+                            instanceId + INVALIDATION_SEPARATOR + value.getKey());
+                }
+
+                return null;
+            }
+        });
+        nearCache.putAll(values);
     }
 
     public void invalidateCache(String key) {
         template.delete(key);
+        nearCache.invalidate(key);
+        publishInvalidation(key);
+    }
+
+    public void invalidateCache(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        nearCache.invalidateAll(keys);
+        template.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.delete(keys);
+
+                for (String key : keys) {
+                    operations.convertAndSend(INVALIDATION_CHANNEL, instanceId + INVALIDATION_SEPARATOR + key);
+                }
+
+                return null;
+            }
+        });
+    }
+
+    private void publishInvalidation(String key) {
+        template.convertAndSend(INVALIDATION_CHANNEL, instanceId + INVALIDATION_SEPARATOR + key);
+    }
+
+    private void onInvalidation(Message message, byte[] pattern) {
+        Object invalidation = template.getValueSerializer().deserialize(message.getBody());
+
+        if (invalidation instanceof String payload) {
+            String[] parts = payload.split("\\" + INVALIDATION_SEPARATOR, 2);
+
+            if (parts.length == 2 && !instanceId.equals(parts[0])) {
+                nearCache.invalidate(parts[1]);
+            }
+        }
+    }
+
+    public record CachedValue(Object value, long remainingTtlMillis) {
+        public static final long UNKNOWN_EXPIRATION = -1;
+    }
+
+    private static Counter tierCounter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.gets")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static void tierHitRatio(MeterRegistry meterRegistry, String tier, Counter hits, Counter misses) {
+        Gauge.builder("cache.tier.hit.ratio", () -> {
+                    double requests = hits.count() + misses.count();
+                    return requests == 0 ? 0 : hits.count() / requests;
+                })
+                .tag("tier", tier)
+                .register(meterRegistry);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,97 @@
+package com.software.modsen.drivermicroservice.aspects;
+
+import com.software.modsen.drivermicroservice.cache.CacheOperationSource;
+import com.software.modsen.drivermicroservice.cache.HotKeyTracker;
+import com.software.modsen.drivermicroservice.cache.RefreshAheadExecutor;
+import com.software.modsen.drivermicroservice.cache.SingleFlightLoader;
+import com.software.modsen.drivermicroservice.cache.TransactionalCacheWriter;
+import com.software.modsen.drivermicroservice.entities.driver.rating.DriverRating;
+import com.software.modsen.drivermicroservice.repositories.DriverRatingRepository;
+import com.software.modsen.drivermicroservice.repositories.DriverRepository;
+import com.software.modsen.drivermicroservice.services.DriverRatingService;
+import com.software.modsen.drivermicroservice.services.RedisService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.*;
+
+public class HotKeyAspectTest {
+    AnnotationConfigApplicationContext context;
+
+    @Configuration
+    @EnableAspectJAutoProxy
+    @Import({CachingAspect.class, HotKeyAspect.class, CacheOperationSource.class})
+    static class AspectConfig {
+        @Bean
+        RedisService redisService() {
+            return mock(RedisService.class);
+        }
+
+        @Bean
+        TransactionalCacheWriter cacheWriter() {
+            return mock(TransactionalCacheWriter.class);
+        }
+
+        @Bean
+        SingleFlightLoader singleFlightLoader() {
+            return mock(SingleFlightLoader.class);
+        }
+
+        @Bean
+        RefreshAheadExecutor refreshAheadExecutor() {
+            return mock(RefreshAheadExecutor.class);
+        }
+
+        @Bean
+        HotKeyTracker hotKeyTracker() {
+            return mock(HotKeyTracker.class);
+        }
+
+        @Bean
+        DriverRatingRepository driverRatingRepository() {
+            return mock(DriverRatingRepository.class);
+        }
+
+        @Bean
+        DriverRatingService driverRatingService(DriverRatingRepository driverRatingRepository,
+                                                RedisService redisService) {
+            return new DriverRatingService(driverRatingRepository, mock(DriverRepository.class), redisService);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(AspectConfig.class);
+    }
+
+    @AfterEach
+    void setDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("Recording hot key access when driver rating is served from cache.")
+    void recordAccessTest_WithCachedDriverRating_RecordsAccess() {
+        //given
+        DriverRating driverRating = new DriverRating(1, null, 4.5F, 129);
+        RedisService redisService = context.getBean(RedisService.class);
+        doReturn(new RedisService.CachedValue(driverRating, 3_600_000)).when(redisService)
+                .getFromCacheWithExpiration("driverRating:1");
+
+        //when
+        DriverRating cachedDriverRating = context.getBean(DriverRatingService.class).getDriverRatingById(1);
+
+        //then
+        assertSame(driverRating, cachedDriverRating);
+        verify(context.getBean(HotKeyTracker.class)).recordAccess(HotKeyTracker.KeyType.DRIVER_RATING, 1);
+        verifyNoInteractions(context.getBean(DriverRatingRepository.class));
+    }
+}
@@ -0,0 +1,62 @@
+package com.software.modsen.drivermicroservice.benchmarks;
+
+import com.software.modsen.drivermicroservice.annotations.CacheableMethod;
+import com.software.modsen.drivermicroservice.cache.CacheOperation;
+import com.software.modsen.drivermicroservice.cache.CacheOperationSource;
+import com.software.modsen.drivermicroservice.services.DriverRatingService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheKeyBenchmark {
+    private final CacheOperationSource cacheOperationSource = new CacheOperationSource();
+
+    private Method getDriverRatingById;
+
+    private Object[] args;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        getDriverRatingById = DriverRatingService.class.getMethod("getDriverRatingById", long.class);
+        args = new Object[]{5L};
+    }
+
+    @Benchmark
+    public Object driverRatingAspectKey() {
+        String key = "";
+
+        for (Object arg : args) {
+            if (arg.getClass().equals(Long.class)) {
+                key = "driverRating" + ":" + arg;
+            }
+        }
+
+        CacheableMethod annotation = getDriverRatingById.getAnnotation(CacheableMethod.class);
+
+        return key + annotation.ttl();
+    }
+
+    @Benchmark
+    public Object cacheOperationKey() {
+        CacheOperation operation = cacheOperationSource.getCacheableOperation(getDriverRatingById);
+
+        return operation.key(args) + operation.getTtl();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CacheKeyBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,88 @@
+package com.software.modsen.drivermicroservice.benchmarks;
+
+import com.software.modsen.drivermicroservice.cache.codec.*;
+import com.software.modsen.drivermicroservice.entities.car.Car;
+import com.software.modsen.drivermicroservice.entities.car.CarBrand;
+import com.software.modsen.drivermicroservice.entities.car.CarColor;
+import com.software.modsen.drivermicroservice.entities.driver.Driver;
+import com.software.modsen.drivermicroservice.entities.driver.Sex;
+import com.software.modsen.drivermicroservice.entities.driver.rating.DriverRating;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisSerializerBenchmark {
+    @Param({"json", "binary"})
+    private String format;
+
+    @Param({"driver", "driverRating"})
+    private String entity;
+
+    private RedisSerializer<Object> serializer;
+
+    private Object value;
+
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        serializer = serializer(format);
+        value = value(entity);
+        bytes = serializer.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(bytes);
+    }
+
+    private static RedisSerializer<Object> serializer(String format) {
+        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+        if (format.equals("json")) {
+            return jsonSerializer;
+        }
+
+        return new BinaryRedisSerializer(
+                List.of(new StringCodec(), new CarCodec(), new DriverCodec(), new DriverRatingCodec()),
+                jsonSerializer, 512);
+    }
+
+    private static Object value(String entity) {
+        Driver driver = new Driver(1, "Alexander", "alexander@gmail.com", "+375299999999", Sex.MALE,
+                new Car(1, CarColor.BLUE, CarBrand.AUDI, "1234AB-1", false), false);
+
+        return entity.equals("driver") ? driver : new DriverRating(1, driver, 4.75F, 120);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (String format : List.of("json", "binary")) {
+            for (String entity : List.of("driver", "driverRating")) {
+                System.out.printf("%s %s: %d bytes per entry%n", format, entity,
+                        serializer(format).serialize(value(entity)).length);
+            }
+        }
+
+        new Runner(new OptionsBuilder()
+                .include(RedisSerializerBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,49 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.software.modsen.drivermicroservice.cache.CacheDependencyGraph.EntityType.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CacheDependencyGraphTest {
+    List<Long> evictedDriverAccounts = new ArrayList<>();
+
+    CacheDependencyGraph cacheDependencyGraph = CacheDependencyGraph.builder()
+            .keys(CAR, id -> List.of("car:" + id))
+            .dependent(CAR, DRIVER, id -> List.of(id + 10))
+            .keys(DRIVER, id -> List.of("driver:" + id, "driver:Alex" + id))
+            .dependent(DRIVER, DRIVER_RATING, id -> List.of(id + 100))
+            .dependent(DRIVER, DRIVER_ACCOUNT, id -> List.of(id + 1000))
+            .keys(DRIVER_RATING, id -> List.of("driverRating:" + id))
+            .dependent(DRIVER_RATING, DRIVER, id -> List.of(id - 100))
+            .localEviction(DRIVER_ACCOUNT, evictedDriverAccounts::add)
+            .build();
+
+    @Test
+    @DisplayName("Resolving keys of driver and its dependents.")
+    void resolveTest_WithDriver_ReturnsKeysOfDriverAndDependents() {
+        //when
+        CacheDependencyGraph.Invalidation invalidation = cacheDependencyGraph.resolve(DRIVER, 1);
+        invalidation.localEvictions().forEach(Runnable::run);
+
+        //then
+        assertEquals(Set.of("driver:1", "driver:Alex1", "driverRating:101"), invalidation.redisKeys());
+        assertEquals(List.of(1001L), evictedDriverAccounts);
+    }
+
+    @Test
+    @DisplayName("Resolving keys of car dependents without car itself.")
+    void resolveDependentsTest_WithCar_ReturnsKeysOfDependentsOnly() {
+        //when
+        CacheDependencyGraph.Invalidation invalidation = cacheDependencyGraph.resolveDependents(CAR, 1);
+
+        //then
+        assertEquals(Set.of("driver:11", "driver:Alex11", "driverRating:111"), invalidation.redisKeys());
+        assertEquals(1, invalidation.localEvictions().size());
+    }
+}
@@ -0,0 +1,148 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import com.software.modsen.drivermicroservice.annotations.CacheableDeleteMethod;
+import com.software.modsen.drivermicroservice.annotations.CacheableMethod;
+import com.software.modsen.drivermicroservice.entities.driver.Driver;
+import com.software.modsen.drivermicroservice.entities.driver.rating.DriverRating;
+import com.software.modsen.drivermicroservice.services.DriverRatingService;
+import com.software.modsen.drivermicroservice.services.RedisService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CacheOperationSourceTest {
+    CacheOperationSource cacheOperationSource = new CacheOperationSource();
+
+    static class CachedService {
+        @CacheableMethod
+        public String findByNameAndAge(String name, int age) {
+            return name + age;
+        }
+
+        @CacheableMethod(key = "#p0 == '' ? null : #p0")
+        public String findByName(String name) {
+            return name;
+        }
+
+        @CacheableDeleteMethod(namespace = "names", key = "#name")
+        @CacheableDeleteMethod(namespace = "namesWithAge", key = "#name + ',' + #age")
+        public void deleteByNameAndAge(String name, int age) {
+        }
+    }
+
+    @Test
+    @DisplayName("Building keys of driver rating read methods with the same argument.")
+    void getCacheableOperationTest_WithSameArgument_ReturnsDistinctKeys() throws NoSuchMethodException {
+        //given
+        Method getById = DriverRatingService.class.getMethod("getDriverRatingById", long.class);
+        Method getByDriverId = DriverRatingService.class.getMethod("getDriverRatingByDriverId", long.class);
+
+        //when
+        CacheOperation byIdOperation = cacheOperationSource.getCacheableOperation(getById);
+        CacheOperation byDriverIdOperation = cacheOperationSource.getCacheableOperation(getByDriverId);
+
+        //then
+        assertEquals("driverRating:5", byIdOperation.key(new Object[]{5L}));
+        assertEquals("driverRatingByDriverId:5", byDriverIdOperation.key(new Object[]{5L}));
+        assertEquals(1L, byIdOperation.getTtl());
+        assertEquals(TimeUnit.HOURS, byIdOperation.getTimeUnit());
+        assertSame(byIdOperation, cacheOperationSource.getCacheableOperation(getById));
+    }
+
+    @Test
+    @DisplayName("Checking refresh ahead of driver rating entries nearing expiry.")
+    void shouldRefreshTest_WithRemainingTtl_ReturnsRefreshOnlyNearExpiry() throws NoSuchMethodException {
+        //given
+        Method getById = DriverRatingService.class.getMethod("getDriverRatingById", long.class);
+
+        //when
+        CacheOperation operation = cacheOperationSource.getCacheableOperation(getById);
+
+        //then
+        assertTrue(operation.isRefreshAhead());
+        assertTrue(operation.shouldRefresh(TimeUnit.MINUTES.toMillis(5)));
+        assertFalse(operation.shouldRefresh(TimeUnit.MINUTES.toMillis(30)));
+        assertFalse(operation.shouldRefresh(RedisService.CachedValue.UNKNOWN_EXPIRATION));
+    }
+
+    @Test
+    @DisplayName("Writing driver ratings updated by put and patch outside refresh ahead window.")
+    void getUpdateOperationsTest_WithDriverRatingUpdates_ReturnsReadTtl() throws NoSuchMethodException {
+        //given
+        Method getById = DriverRatingService.class.getMethod("getDriverRatingById", long.class);
+        Method putById = DriverRatingService.class.getMethod("putDriverRatingById", long.class, DriverRating.class);
+        Method patchById = DriverRatingService.class.getMethod("patchDriverRatingById", long.class,
+                DriverRating.class);
+        CacheOperation readOperation = cacheOperationSource.getCacheableOperation(getById);
+
+        //when
+        List<CacheOperation> updateOperations = new ArrayList<>(cacheOperationSource.getUpdateOperations(putById));
+        updateOperations.addAll(cacheOperationSource.getUpdateOperations(patchById));
+
+        //then
+        assertEquals(4, updateOperations.size());
+
+        for (CacheOperation updateOperation : updateOperations) {
+            long ttlMillis = updateOperation.getTimeUnit().toMillis(updateOperation.getTtl());
+
+            assertEquals(readOperation.getTimeUnit().toMillis(readOperation.getTtl()), ttlMillis);
+            assertFalse(readOperation.shouldRefresh(ttlMillis));
+        }
+    }
+
+    @Test
+    @DisplayName("Building keys of driver rating update method from result.")
+    void getUpdateOperationsTest_WithResultKey_ReturnsKeysOfBothNamespaces() throws NoSuchMethodException {
+        //given
+        Method putById = DriverRatingService.class.getMethod("putDriverRatingById", long.class, DriverRating.class);
+        Driver driver = new Driver();
+        driver.setId(7L);
+        DriverRating driverRating = new DriverRating(5L, driver, 4.5F, 10);
+
+        //when
+        List<String> keys = cacheOperationSource.getUpdateOperations(putById).stream()
+                .map(operation -> operation.key(new Object[]{5L, driverRating}, driverRating))
+                .toList();
+
+        //then
+        assertEquals(List.of("driverRating:5", "driverRatingByDriverId:7"), keys);
+    }
+
+    @Test
+    @DisplayName("Building keys without key expression and with null key.")
+    void getCacheableOperationTest_WithDefaultAndNullKeys_ReturnsKeys() throws NoSuchMethodException {
+        //given
+        Method findByNameAndAge = CachedService.class.getMethod("findByNameAndAge", String.class, int.class);
+        Method findByName = CachedService.class.getMethod("findByName", String.class);
+
+        //when
+        CacheOperation defaultKeyOperation = cacheOperationSource.getCacheableOperation(findByNameAndAge);
+        CacheOperation nullableKeyOperation = cacheOperationSource.getCacheableOperation(findByName);
+
+        //then
+        assertEquals("CachedService.findByNameAndAge:Alex,20", defaultKeyOperation.key(new Object[]{"Alex", 20}));
+        assertEquals("CachedService.findByName:Alex", nullableKeyOperation.key(new Object[]{"Alex"}));
+        assertNull(nullableKeyOperation.key(new Object[]{""}));
+    }
+
+    @Test
+    @DisplayName("Building keys of repeated delete annotations.")
+    void getDeleteOperationsTest_WithRepeatedAnnotations_ReturnsAllKeys() throws NoSuchMethodException {
+        //given
+        Method deleteByNameAndAge = CachedService.class.getMethod("deleteByNameAndAge", String.class, int.class);
+
+        //when
+        List<String> keys = cacheOperationSource.getDeleteOperations(deleteByNameAndAge).stream()
+                .map(operation -> operation.key(new Object[]{"Alex", 20}, null))
+                .toList();
+
+        //then
+        assertEquals(List.of("names:Alex", "namesWithAge:Alex,20"), keys);
+    }
+}
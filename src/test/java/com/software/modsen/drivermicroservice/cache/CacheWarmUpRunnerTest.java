@@ -0,0 +1,73 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import com.software.modsen.drivermicroservice.exceptions.DriverNotFoundException;
+import com.software.modsen.drivermicroservice.services.DriverAccountService;
+import com.software.modsen.drivermicroservice.services.DriverRatingService;
+import com.software.modsen.drivermicroservice.services.DriverService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CacheWarmUpRunnerTest {
+    @Mock
+    HotKeyTracker hotKeyTracker;
+
+    @Mock
+    DriverService driverService;
+
+    @Mock
+    DriverRatingService driverRatingService;
+
+    @Mock
+    DriverAccountService driverAccountService;
+
+    private CacheWarmUpRunner cacheWarmUpRunner(String source) {
+        return new CacheWarmUpRunner(hotKeyTracker, driverService, driverRatingService, driverAccountService,
+                source, 2, 2, 10_000);
+    }
+
+    @Test
+    @DisplayName("Warming up caches from hot key snapshot.")
+    void runTest_WithSnapshotSource_LoadsEveryHotKey() throws InterruptedException {
+        //given
+        doReturn(Map.of(
+                HotKeyTracker.KeyType.DRIVER, List.of(1L, 2L, 3L),
+                HotKeyTracker.KeyType.DRIVER_RATING, List.of(4L),
+                HotKeyTracker.KeyType.DRIVER_ACCOUNT, List.of())).when(hotKeyTracker).readSnapshot();
+        doThrow(DriverNotFoundException.class).when(driverService).getDriverById(2L);
+
+        //when
+        cacheWarmUpRunner("snapshot").run(new DefaultApplicationArguments());
+
+        //then
+        verify(driverService).getDriverById(1L);
+        verify(driverService).getDriverById(2L);
+        verify(driverService).getDriverById(3L);
+        verify(driverRatingService).getDriverRatingById(4L);
+        verifyNoInteractions(driverAccountService);
+        verify(hotKeyTracker, never()).readLatestIds();
+    }
+
+    @Test
+    @DisplayName("Warming up caches from database.")
+    void runTest_WithDatabaseSource_LoadsLatestIds() throws InterruptedException {
+        //given
+        doReturn(Map.of(HotKeyTracker.KeyType.DRIVER_ACCOUNT, List.of(7L))).when(hotKeyTracker).readLatestIds();
+
+        //when
+        cacheWarmUpRunner("database").run(new DefaultApplicationArguments());
+
+        //then
+        verify(driverAccountService).getDriverAccountById(7L);
+        verify(hotKeyTracker, never()).readSnapshot();
+    }
+}
@@ -0,0 +1,62 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClientSideCacheTest {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    ClientSideCache clientSideCache;
+
+    @AfterEach
+    void setDown() {
+        clientSideCache.shutdown();
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.client.side.gets").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("Reading through disabled client-side cache.")
+    void getTest_WithDisabledCache_ReadsWithFallback() {
+        //given
+        clientSideCache = new ClientSideCache(new RedisProperties(), RedisSerializer.java(), meterRegistry,
+                false, 100);
+        clientSideCache.start();
+
+        //when
+        Object value = clientSideCache.get("driver:1", key -> "Alex");
+
+        //then
+        assertEquals("Alex", value);
+        assertFalse(clientSideCache.isAvailable());
+        assertEquals(0, gets("fallback"));
+    }
+
+    @Test
+    @DisplayName("Reading through client-side cache when Redis tracking is unavailable.")
+    void getTest_WithUnavailableTracking_ReadsWithFallback() {
+        //given
+        RedisProperties redisProperties = new RedisProperties();
+        redisProperties.setHost("localhost");
+        redisProperties.setPort(1);
+        clientSideCache = new ClientSideCache(redisProperties, RedisSerializer.java(), meterRegistry, true, 100);
+        clientSideCache.start();
+
+        //when
+        Object value = clientSideCache.get("driver:1", key -> "Alex");
+
+        //then
+        assertEquals("Alex", value);
+        assertFalse(clientSideCache.isAvailable());
+        assertEquals(1, gets("fallback"));
+        assertEquals(0, meterRegistry.get("cache.client.side.available").gauge().value());
+    }
+}
@@ -0,0 +1,95 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.software.modsen.drivermicroservice.entities.car.Car;
+import com.software.modsen.drivermicroservice.entities.car.CarBrand;
+import com.software.modsen.drivermicroservice.entities.car.CarColor;
+import com.software.modsen.drivermicroservice.entities.driver.Driver;
+import com.software.modsen.drivermicroservice.entities.driver.Sex;
+import com.software.modsen.drivermicroservice.entities.driver.account.Currency;
+import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DriverAccountCacheTest {
+    Cache<Long, DriverAccount> driverAccounts;
+
+    DriverAccountCache driverAccountCache;
+
+    @BeforeEach
+    void setUp() {
+        driverAccounts = Caffeine.newBuilder()
+                .maximumWeight(DriverAccountCache.MIN_ENTRY_WEIGHT * 10L)
+                .weigher(DriverAccountCache::weigh)
+                .executor(Runnable::run)
+                .build();
+        driverAccountCache = new DriverAccountCache(driverAccounts, Caffeine.newBuilder().build());
+    }
+
+    private DriverAccount driverAccount(long id, long driverId) {
+        return new DriverAccount(id, new Driver(driverId, "Alex", "alex@gmail.com", "+375299999999", Sex.MALE,
+                new Car(1, CarColor.BLUE, CarBrand.AUDI, "1234AB-1", false), false), 100f, Currency.BYN);
+    }
+
+    @Test
+    @DisplayName("Getting cached driver account by id and driver id.")
+    void getTest_WithCachedDriverAccount_ReturnsDriverAccount() {
+        //given
+        DriverAccount driverAccount = driverAccount(1, 7);
+
+        //when
+        driverAccountCache.put(driverAccount);
+
+        //then
+        assertSame(driverAccount, driverAccountCache.getById(1));
+        assertSame(driverAccount, driverAccountCache.getByDriverId(7));
+        assertNull(driverAccountCache.getById(7));
+        assertNull(driverAccountCache.getByDriverId(1));
+    }
+
+    @Test
+    @DisplayName("Getting driver account by driver id after account was evicted.")
+    void getByDriverIdTest_WithEvictedDriverAccount_ReturnsNull() {
+        //given
+        driverAccountCache.put(driverAccount(1, 7));
+
+        //when
+        driverAccounts.invalidate(1L);
+
+        //then
+        assertNull(driverAccountCache.getByDriverId(7));
+    }
+
+    @Test
+    @DisplayName("Evicting driver accounts when maximum weight is exceeded.")
+    void putTest_WithExceededMaximumWeight_EvictsDriverAccounts() {
+        //when
+        for (long id = 1; id <= 20; id++) {
+            driverAccountCache.put(driverAccount(id, id + 100));
+        }
+        driverAccounts.cleanUp();
+
+        //then
+        assertTrue(driverAccounts.estimatedSize() < 10);
+        assertTrue(DriverAccountCache.weigh(1L, driverAccount(1, 7)) > DriverAccountCache.MIN_ENTRY_WEIGHT);
+    }
+
+    @Test
+    @DisplayName("Getting driver account of deleted driver by driver id.")
+    void getByDriverIdTest_WithDeletedDriver_ReturnsNull() {
+        //given
+        DriverAccount driverAccount = driverAccount(1, 7);
+        driverAccount.getDriver().setDeleted(true);
+
+        //when
+        driverAccountCache.put(driverAccount);
+
+        //then
+        assertSame(driverAccount, driverAccountCache.getById(1));
+        assertNull(driverAccountCache.getByDriverId(7));
+    }
+}
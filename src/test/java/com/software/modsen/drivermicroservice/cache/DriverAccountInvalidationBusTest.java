@@ -0,0 +1,183 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.software.modsen.drivermicroservice.entities.driver.Driver;
+import com.software.modsen.drivermicroservice.entities.driver.Sex;
+import com.software.modsen.drivermicroservice.entities.driver.account.Currency;
+import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DriverAccountInvalidationBusTest {
+    LocalInvalidationChannel channel;
+
+    SimpleMeterRegistry meterRegistry;
+
+    DriverAccountCache firstCache;
+
+    DriverAccountCache secondCache;
+
+    DriverAccountInvalidationBus firstBus;
+
+    DriverAccountInvalidationBus secondBus;
+
+    @BeforeEach
+    void setUp() {
+        channel = new LocalInvalidationChannel();
+        meterRegistry = new SimpleMeterRegistry();
+        firstCache = new DriverAccountCache(Caffeine.newBuilder().build(), Caffeine.newBuilder().build());
+        secondCache = new DriverAccountCache(Caffeine.newBuilder().build(), Caffeine.newBuilder().build());
+        firstBus = new DriverAccountInvalidationBus(firstCache, channel, meterRegistry, 5000);
+        secondBus = new DriverAccountInvalidationBus(secondCache, channel, meterRegistry, 5000);
+    }
+
+    private DriverAccount driverAccount(long id) {
+        return new DriverAccount(id, new Driver(id, "Alex", "alex@gmail.com", "+375299999999", Sex.MALE,
+                null, false), 100f, Currency.BYN);
+    }
+
+    private double flushes(String reason) {
+        return meterRegistry.get("cache.invalidation.flushes").tag("reason", reason).counter().count();
+    }
+
+    @Test
+    @DisplayName("Publishing driver account change evicts it on peer node.")
+    void publishChangeTest_WithCachedDriverAccountOnPeer_EvictsPeerEntry() {
+        //given
+        DriverAccount driverAccount = driverAccount(1);
+        firstCache.put(driverAccount);
+        secondCache.put(driverAccount);
+        secondCache.put(driverAccount(2));
+
+        //when
+        firstBus.publishChange(1);
+
+        //then
+        assertSame(driverAccount, firstCache.getById(1));
+        assertNull(secondCache.getById(1));
+        assertNotNull(secondCache.getById(2));
+        assertEquals(0, flushes("sequence_gap"));
+    }
+
+    @Test
+    @DisplayName("Receiving driver account change after missed messages flushes whole cache.")
+    void publishChangeTest_WithMissedMessages_FlushesPeerCache() {
+        //given
+        firstBus.publishChange(1);
+        channel.setDropping(true);
+        firstBus.publishChange(2);
+        channel.setDropping(false);
+        secondCache.put(driverAccount(2));
+        secondCache.put(driverAccount(5));
+
+        //when
+        firstBus.publishChange(3);
+
+        //then
+        assertNull(secondCache.getById(2));
+        assertNull(secondCache.getById(5));
+        assertEquals(1, flushes("sequence_gap"));
+    }
+
+    @Test
+    @DisplayName("Receiving heartbeat after missed messages flushes whole cache.")
+    void heartbeatTest_WithMissedMessages_FlushesPeerCache() {
+        //given
+        firstBus.heartbeat();
+        channel.setDropping(true);
+        firstBus.publishChange(2);
+        channel.setDropping(false);
+        secondCache.put(driverAccount(2));
+
+        //when
+        firstBus.heartbeat();
+
+        //then
+        assertNull(secondCache.getById(2));
+        assertEquals(1, flushes("sequence_gap"));
+    }
+
+    @Test
+    @DisplayName("Sending heartbeat while channel is silent flushes local cache.")
+    void heartbeatTest_WithSilentChannel_FlushesLocalCache() {
+        //given
+        DriverAccountInvalidationBus bus = new DriverAccountInvalidationBus(firstCache, channel, meterRegistry, 0);
+        channel.setDropping(true);
+        firstCache.put(driverAccount(1));
+
+        //when
+        sleep(5);
+        bus.heartbeat();
+
+        //then
+        assertNull(firstCache.getById(1));
+        assertEquals(1, flushes("channel_silent"));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("Receiving driver account changes out of order flushes cache only once.")
+    void onMessageTest_WithOutOfOrderDelivery_FlushesOnceAndEvictsStaleChange() {
+        //given
+        LocalInvalidationChannel peerChannel = new LocalInvalidationChannel();
+        SimpleMeterRegistry peerMeterRegistry = new SimpleMeterRegistry();
+        new DriverAccountInvalidationBus(secondCache, peerChannel, peerMeterRegistry, 5000);
+        peerChannel.publish("peer|4|4");
+        peerChannel.publish("peer|6|6");
+        secondCache.put(driverAccount(5));
+        secondCache.put(driverAccount(8));
+
+        //when
+        peerChannel.publish("peer|5|5");
+        peerChannel.publish("peer|7|7");
+
+        //then
+        assertNull(secondCache.getById(5));
+        assertNotNull(secondCache.getById(8));
+        assertEquals(1, peerMeterRegistry.get("cache.invalidation.flushes").tag("reason", "sequence_gap")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("Publishing driver account changes concurrently keeps sequence order on channel.")
+    void publishChangeTest_FromConcurrentThreads_PublishesIncreasingSequences() throws InterruptedException {
+        //given
+        List<Long> sequences = new CopyOnWriteArrayList<>();
+        channel.subscribe(message -> sequences.add(Long.parseLong(message.split("\\|")[1])));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        for (int i = 0; i < 800; i++) {
+            long id = i;
+            executor.submit(() -> firstBus.publishChange(id));
+        }
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        //then
+        assertEquals(800, sequences.size());
+        assertEquals(0, flushes("sequence_gap"));
+
+        for (int i = 1; i < 800; i++) {
+            assertTrue(sequences.get(i) > sequences.get(i - 1));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+public class HotKeyTrackerTest {
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Writing and reading hot key snapshot.")
+    void writeSnapshotTest_WithAccessedKeys_ReturnsSameKeysFromSnapshot() {
+        //given
+        HotKeyTracker hotKeyTracker = new HotKeyTracker(jdbcTemplate, true,
+                directory.resolve("hot-keys.snapshot").toString(), 100);
+        hotKeyTracker.recordAccess(HotKeyTracker.KeyType.DRIVER, 1);
+        hotKeyTracker.recordAccess(HotKeyTracker.KeyType.DRIVER, 2);
+        hotKeyTracker.recordAccess(HotKeyTracker.KeyType.DRIVER_ACCOUNT, 3);
+
+        //when
+        hotKeyTracker.writeSnapshot();
+        Map<HotKeyTracker.KeyType, List<Long>> hotIds = hotKeyTracker.readSnapshot();
+
+        //then
+        assertEquals(Set.of(1L, 2L), Set.copyOf(hotIds.get(HotKeyTracker.KeyType.DRIVER)));
+        assertEquals(List.of(), hotIds.get(HotKeyTracker.KeyType.DRIVER_RATING));
+        assertEquals(List.of(3L), hotIds.get(HotKeyTracker.KeyType.DRIVER_ACCOUNT));
+    }
+
+    @Test
+    @DisplayName("Reading hot key snapshot with malformed lines.")
+    void readSnapshotTest_WithMalformedLines_SkipsMalformedLines() throws IOException {
+        //given
+        Path snapshotFile = directory.resolve("hot-keys.snapshot");
+        Files.writeString(snapshotFile, "DRIVER 1\nCAR 2\nDRIVER_RATING x\nDRIVER_RATING 4\n");
+        HotKeyTracker hotKeyTracker = new HotKeyTracker(jdbcTemplate, true, snapshotFile.toString(), 100);
+
+        //when
+        Map<HotKeyTracker.KeyType, List<Long>> hotIds = hotKeyTracker.readSnapshot();
+
+        //then
+        assertEquals(List.of(1L), hotIds.get(HotKeyTracker.KeyType.DRIVER));
+        assertEquals(List.of(4L), hotIds.get(HotKeyTracker.KeyType.DRIVER_RATING));
+    }
+
+    @Test
+    @DisplayName("Reading latest ids from database.")
+    void readLatestIdsTest_ReturnsIdsOfEveryKeyType() {
+        //given
+        HotKeyTracker hotKeyTracker = new HotKeyTracker(jdbcTemplate, false,
+                directory.resolve("hot-keys.snapshot").toString(), 100);
+        doReturn(List.of(5L, 4L)).when(jdbcTemplate).queryForList(anyString(), eq(Long.class), eq(100));
+
+        //when
+        Map<HotKeyTracker.KeyType, List<Long>> hotIds = hotKeyTracker.readLatestIds();
+
+        //then
+        for (HotKeyTracker.KeyType keyType : HotKeyTracker.KeyType.values()) {
+            assertEquals(List.of(5L, 4L), hotIds.get(keyType));
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class KnownIdRegistryTest {
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Mock
+    RedisTemplate<String, Object> template;
+
+    @Mock
+    RedisMessageListenerContainer listenerContainer;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    KnownIdRegistry knownIdRegistry;
+
+    @BeforeEach
+    void setUp() {
+        knownIdRegistry = new KnownIdRegistry(jdbcTemplate, transactionManager, template, listenerContainer,
+                meterRegistry, 30, 1000, 0.01, 5000);
+    }
+
+    private void rebuildWithIds(long... ids) {
+        scanIds(ids);
+        knownIdRegistry.rebuild();
+    }
+
+    private void scanIds(long... ids) {
+        doReturn(0L).when(jdbcTemplate).queryForObject(anyString(), eq(Long.class));
+        doAnswer(invocation -> {
+            RowCallbackHandler rowCallbackHandler = invocation.getArgument(1);
+            ResultSet resultSet = mock(ResultSet.class);
+
+            for (long id : ids) {
+                doReturn(id).when(resultSet).getLong(1);
+                rowCallbackHandler.processRow(resultSet);
+            }
+
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    private MessageListener insertedIdsListener() {
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer, atLeastOnce()).addMessageListener(listener.capture(), any(Topic.class));
+        lenient().doReturn(new StringRedisSerializer()).when(template).getValueSerializer();
+
+        return listener.getValue();
+    }
+
+    private static void receive(MessageListener listener, String payload) {
+        listener.onMessage(new DefaultMessage(KnownIdRegistry.INSERTED_IDS_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payload.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    private double failOpens(String reason) {
+        return meterRegistry.get("cache.known.ids.fail.opens").tag("reason", reason).counter().count();
+    }
+
+    @Test
+    @DisplayName("Accepting any id before known ids are built.")
+    void mightExistTest_BeforeRebuild_ReturnsTrue() {
+        //when
+        boolean mightExist = knownIdRegistry.mightExist(KnownIdRegistry.IdType.DRIVER, 42);
+
+        //then
+        assertTrue(mightExist);
+    }
+
+    @Test
+    @DisplayName("Rejecting ids missing from rebuilt known ids.")
+    void mightExistTest_AfterRebuild_RejectsUnknownIds() {
+        //given
+        rebuildWithIds(1, 2, 3, 1000);
+
+        //when
+        boolean existingId = knownIdRegistry.mightExist(KnownIdRegistry.IdType.CAR, 2);
+        boolean unknownId = knownIdRegistry.mightExist(KnownIdRegistry.IdType.CAR, 500);
+        boolean idAboveKnownMaximum = knownIdRegistry.mightExist(KnownIdRegistry.IdType.CAR, 1001);
+
+        //then
+        assertTrue(existingId);
+        assertFalse(unknownId);
+        assertTrue(idAboveKnownMaximum);
+        assertEquals(1, meterRegistry.get("cache.known.ids.rejected").tag("type", "car").counter().count());
+    }
+
+    @Test
+    @DisplayName("Registering inserted id clears negative cache and broadcasts id.")
+    void registerInsertedTest_AddsIdAndEvictsMissingId() {
+        //given
+        rebuildWithIds(1, 1000);
+        knownIdRegistry.registerMissing(KnownIdRegistry.IdType.DRIVER, 500);
+
+        //when
+        knownIdRegistry.registerInserted(KnownIdRegistry.IdType.DRIVER, 500);
+
+        //then
+        assertTrue(knownIdRegistry.mightExist(KnownIdRegistry.IdType.DRIVER, 500));
+        assertFalse(knownIdRegistry.isKnownMissing(KnownIdRegistry.IdType.DRIVER, 500));
+        verify(template).convertAndSend(eq(KnownIdRegistry.INSERTED_IDS_CHANNEL), any(String.class));
+    }
+
+    @Test
+    @DisplayName("Adding ids inserted on another instance.")
+    void onInsertedIdsTest_FromAnotherInstance_AddsIds() {
+        //given
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(), any(Topic.class));
+        doReturn(new StringRedisSerializer()).when(template).getValueSerializer();
+        rebuildWithIds(1, 1000);
+
+        //when
+        listener.getValue().onMessage(new DefaultMessage(
+                KnownIdRegistry.INSERTED_IDS_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "another-instance|1|DRIVER_ACCOUNT|500,501".getBytes(StandardCharsets.UTF_8)), null);
+
+        //then
+        assertTrue(List.of(500L, 501L).stream()
+                .allMatch(id -> knownIdRegistry.mightExist(KnownIdRegistry.IdType.DRIVER_ACCOUNT, id)));
+    }
+
+    @Test
+    @DisplayName("Checking unknown id without counting rejection.")
+    void mightContainTest_AfterRebuild_DoesNotCountRejection() {
+        //given
+        rebuildWithIds(1, 1000);
+
+        //when
+        boolean unknownId = knownIdRegistry.mightContain(KnownIdRegistry.IdType.CAR, 500);
+
+        //then
+        assertFalse(unknownId);
+        assertEquals(0, meterRegistry.get("cache.known.ids.rejected").tag("type", "car").counter().count());
+    }
+
+    @Test
+    @DisplayName("Keeping rejection cutoff at maximum scanned id after inserts on another instance.")
+    void onInsertedIdsTest_WithIdAboveScannedMaximum_KeepsCutoff() {
+        //given
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(), any(Topic.class));
+        doReturn(new StringRedisSerializer()).when(template).getValueSerializer();
+        rebuildWithIds(1, 1000);
+
+        //when
+        listener.getValue().onMessage(new DefaultMessage(
+                KnownIdRegistry.INSERTED_IDS_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "another-instance|1|DRIVER|2000".getBytes(StandardCharsets.UTF_8)), null);
+
+        //then
+        assertTrue(knownIdRegistry.mightExist(KnownIdRegistry.IdType.DRIVER, 1500));
+        assertTrue(knownIdRegistry.mightExist(KnownIdRegistry.IdType.DRIVER, 2000));
+    }
+
+    @Test
+    @DisplayName("Keeping id inserted concurrently with rebuild which scanned before commit.")
+    void registerInsertedTest_WithConcurrentRebuild_KeepsIdAfterCommit() throws Exception {
+        //given
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch scanning = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        doReturn(0L).when(jdbcTemplate).queryForObject(anyString(), eq(Long.class));
+        doAnswer(invocation -> {
+            RowCallbackHandler rowCallbackHandler = invocation.getArgument(1);
+            ResultSet resultSet = mock(ResultSet.class);
+
+            for (long id : new long[]{1, 1000}) {
+                doReturn(id).when(resultSet).getLong(1);
+                rowCallbackHandler.processRow(resultSet);
+            }
+
+            scanning.countDown();
+            assertTrue(committed.await(5, TimeUnit.SECONDS));
+
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        Thread insertingTransaction = new Thread(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+
+            try {
+                knownIdRegistry.registerInserted(KnownIdRegistry.IdType.DRIVER, 500);
+                inserted.countDown();
+                scanning.await(5, TimeUnit.SECONDS);
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(TransactionSynchronization::afterCommit);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+                committed.countDown();
+            }
+        });
+
+        //when
+        insertingTransaction.start();
+        assertTrue(inserted.await(5, TimeUnit.SECONDS));
+        knownIdRegistry.rebuild();
+        insertingTransaction.join();
+
+        //then
+        assertTrue(knownIdRegistry.mightExist(KnownIdRegistry.IdType.DRIVER, 500));
+    }
+
+    @Test
+    @DisplayName("Accepting ids from a missed message and rebuilding after sequence gap.")
+    void onInsertedIdsTest_WithMissedMessage_FailsOpenUntilRebuilt() {
+        //given
+        MessageListener listener = insertedIdsListener();
+        rebuildWithIds(1, 1000);
+        receive(listener, "another-instance|1|DRIVER|500");
+
+        //when
+        receive(listener, "another-instance|3|DRIVER|600");
+        boolean missedIdAfterGap = knownIdRegistry.mightExist(KnownIdRegistry.IdType.DRIVER, 700);
+
+        scanIds(1, 500, 600, 700, 1000);
+        knownIdRegistry.heartbeat();
+
+        //then
+        assertTrue(missedIdAfterGap);
+        assertEquals(1, failOpens("sequence_gap"));
+        assertTrue(knownIdRegistry.mightExist(KnownIdRegistry.IdType.DRIVER, 700));
+        assertFalse(knownIdRegistry.mightExist(KnownIdRegistry.IdType.DRIVER, 800));
+    }
+
+    @Test
+    @DisplayName("Detecting missed message from heartbeat of another instance.")
+    void onInsertedIdsTest_WithHeartbeatAfterMissedMessage_FailsOpen() {
+        //given
+        MessageListener listener = insertedIdsListener();
+        rebuildWithIds(1, 1000);
+        receive(listener, "another-instance|1|CAR|500");
+        receive(listener, "another-instance|1||");
+
+        //when
+        receive(listener, "another-instance|2||");
+
+        //then
+        assertEquals(1, failOpens("sequence_gap"));
+        assertTrue(knownIdRegistry.mightExist(KnownIdRegistry.IdType.CAR, 700));
+        assertTrue(knownIdRegistry.mightExist(KnownIdRegistry.IdType.DRIVER_ACCOUNT, 700));
+    }
+
+    @Test
+    @DisplayName("Accepting all ids while inserted id channel is silent and rebuilding after it recovers.")
+    void heartbeatTest_WithSilentChannel_FailsOpenUntilChannelRecovers() throws InterruptedException {
+        //given
+        knownIdRegistry = new KnownIdRegistry(jdbcTemplate, transactionManager, template, listenerContainer,
+                meterRegistry, 30, 1000, 0.01, 1);
+        MessageListener listener = insertedIdsListener();
+        rebuildWithIds(1, 1000);
+        ArgumentCaptor<Object> ownHeartbeat = ArgumentCaptor.forClass(Object.class);
+        Thread.sleep(10);
+
+        //when
+        knownIdRegistry.heartbeat();
+        boolean unknownIdWhileSilent = knownIdRegistry.mightExist(KnownIdRegistry.IdType.DRIVER, 500);
+        knownIdRegistry.rebuild();
+        boolean unknownIdAfterRebuildWhileSilent = knownIdRegistry.mightExist(KnownIdRegistry.IdType.DRIVER, 500);
+
+        verify(template, atLeastOnce()).convertAndSend(eq(KnownIdRegistry.INSERTED_IDS_CHANNEL),
+                ownHeartbeat.capture());
+        receive(listener, (String) ownHeartbeat.getValue());
+        knownIdRegistry.heartbeat();
+
+        //then
+        assertTrue(unknownIdWhileSilent);
+        assertTrue(unknownIdAfterRebuildWhileSilent);
+        assertEquals(1, failOpens("channel_silent"));
+        assertFalse(knownIdRegistry.mightExist(KnownIdRegistry.IdType.DRIVER, 500));
+    }
+}
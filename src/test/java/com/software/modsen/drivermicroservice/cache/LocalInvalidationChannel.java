@@ -0,0 +1,26 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class LocalInvalidationChannel implements InvalidationChannel {
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean dropping;
+
+    @Override
+    public void publish(String message) {
+        if (!dropping) {
+            listeners.forEach(listener -> listener.accept(message));
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    public void setDropping(boolean dropping) {
+        this.dropping = dropping;
+    }
+}
@@ -0,0 +1,82 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RefreshAheadExecutorTest {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    RefreshAheadExecutor refreshAheadExecutor = new RefreshAheadExecutor(meterRegistry, 1, 1);
+
+    @AfterEach
+    void setDown() {
+        refreshAheadExecutor.shutdown();
+    }
+
+    private double refreshes(String outcome) {
+        return meterRegistry.get("cache.refresh.ahead").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("Refreshing the same key once while reload is running.")
+    void refreshTest_WithRunningReload_SkipsDuplicatedRefresh() throws InterruptedException {
+        //given
+        CountDownLatch reloadStarted = new CountDownLatch(1);
+        CountDownLatch releaseReload = new CountDownLatch(1);
+        AtomicInteger reloads = new AtomicInteger();
+
+        //when
+        refreshAheadExecutor.refresh("driverRating:1", () -> {
+            reloads.incrementAndGet();
+            reloadStarted.countDown();
+            await(releaseReload);
+        });
+        assertTrue(reloadStarted.await(5, TimeUnit.SECONDS));
+        refreshAheadExecutor.refresh("driverRating:1", reloads::incrementAndGet);
+        releaseReload.countDown();
+
+        //then
+        assertEquals(1, refreshes("scheduled"));
+        assertEquals(1, reloads.get());
+    }
+
+    @Test
+    @DisplayName("Rejecting refresh when executor queue is full.")
+    void refreshTest_WithFullQueue_RejectsRefresh() throws InterruptedException {
+        //given
+        CountDownLatch releaseReload = new CountDownLatch(1);
+        CountDownLatch reloadStarted = new CountDownLatch(1);
+
+        //when
+        refreshAheadExecutor.refresh("driverRating:1", () -> {
+            reloadStarted.countDown();
+            await(releaseReload);
+        });
+        assertTrue(reloadStarted.await(5, TimeUnit.SECONDS));
+        refreshAheadExecutor.refresh("driverRating:2", () -> {
+        });
+        refreshAheadExecutor.refresh("driverRating:3", () -> {
+        });
+        releaseReload.countDown();
+
+        //then
+        assertEquals(2, refreshes("scheduled"));
+        assertEquals(1, refreshes("rejected"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
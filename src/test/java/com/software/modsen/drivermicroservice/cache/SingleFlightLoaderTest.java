@@ -0,0 +1,171 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import com.software.modsen.drivermicroservice.exceptions.DriverNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.DRIVER_NOT_FOUND_MESSAGE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SingleFlightLoaderTest {
+    @Mock
+    RedisTemplate<String, Object> template;
+
+    @Mock
+    ValueOperations<String, Object> valueOperations;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SingleFlightLoader singleFlightLoader(boolean leaseEnabled) {
+        return new SingleFlightLoader(template, meterRegistry, leaseEnabled, 2000, 1000);
+    }
+
+    private double loads(String outcome) {
+        return meterRegistry.get("cache.single.flight.loads").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("Coalescing concurrent loads of the same key.")
+    void loadTest_WithConcurrentCallers_RunsLoaderOnce() throws Exception {
+        //given
+        SingleFlightLoader singleFlightLoader = singleFlightLoader(false);
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        AtomicInteger loaderCalls = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        List<Future<String>> results = new ArrayList<>();
+
+        //when
+        results.add(executor.submit(() -> singleFlightLoader.load("driver:1", () -> {
+            loaderCalls.incrementAndGet();
+            loaderStarted.countDown();
+            await(releaseLoader);
+            return "Alex";
+        })));
+        loaderStarted.await();
+
+        for (int i = 0; i < 4; i++) {
+            results.add(executor.submit(() -> singleFlightLoader.load("driver:1", () -> {
+                loaderCalls.incrementAndGet();
+                return "Ivan";
+            })));
+        }
+
+        while (loads("coalesced_local") < 4) {
+            Thread.sleep(5);
+        }
+
+        releaseLoader.countDown();
+
+        //then
+        for (Future<String> result : results) {
+            assertEquals("Alex", result.get(5, TimeUnit.SECONDS));
+        }
+
+        executor.shutdown();
+        assertEquals(1, loaderCalls.get());
+        assertEquals(1, loads("loaded"));
+        assertEquals(4, loads("coalesced_local"));
+    }
+
+    @Test
+    @DisplayName("Propagating loader exception to caller.")
+    void loadTest_WithDriverNotFoundException_ReturnsException() {
+        //given
+        SingleFlightLoader singleFlightLoader = singleFlightLoader(false);
+
+        //when
+        DriverNotFoundException exception = assertThrows(DriverNotFoundException.class,
+                () -> singleFlightLoader.load("driver:1", () -> {
+                    throw new DriverNotFoundException(DRIVER_NOT_FOUND_MESSAGE);
+                }));
+
+        //then
+        assertEquals(DRIVER_NOT_FOUND_MESSAGE, exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Loading value under acquired Redis lease.")
+    void loadTest_WithAcquiredLease_RunsLoaderAndReleasesLease() {
+        //given
+        SingleFlightLoader singleFlightLoader = singleFlightLoader(true);
+        doReturn(valueOperations).when(template).opsForValue();
+        doReturn(true).when(valueOperations).setIfAbsent(eq("lease:driver:1"), anyString(), any(Duration.class));
+
+        //when
+        String value = singleFlightLoader.load("driver:1", () -> "Alex");
+
+        //then
+        assertEquals("Alex", value);
+        verify(template).execute(any(), eq(List.of("lease:driver:1")), anyString());
+        verify(valueOperations, never()).multiGet(any());
+    }
+
+    @Test
+    @DisplayName("Waiting for value loaded by another node holding Redis lease.")
+    void loadTest_WithLeaseHeldByAnotherNode_ReturnsCachedValue() {
+        //given
+        SingleFlightLoader singleFlightLoader = singleFlightLoader(true);
+        doReturn(valueOperations).when(template).opsForValue();
+        doReturn(false).when(valueOperations).setIfAbsent(eq("lease:driver:1"), anyString(), any(Duration.class));
+        doReturn(Arrays.asList(null, "token"), Arrays.asList("Alex", "token"))
+                .when(valueOperations).multiGet(List.of("driver:1", "lease:driver:1"));
+
+        //when
+        String value = singleFlightLoader.load("driver:1", () -> fail("Loader must not run."));
+
+        //then
+        assertEquals("Alex", value);
+        assertEquals(1, loads("coalesced_remote"));
+        assertEquals(0, loads("loaded"));
+        verify(valueOperations, times(2)).multiGet(List.of("driver:1", "lease:driver:1"));
+    }
+
+    @Test
+    @DisplayName("Loading value right after another node released Redis lease without caching value.")
+    void loadTest_WithLeaseReleasedWithoutValue_LoadsWithoutWaitingForTimeout() {
+        //given
+        SingleFlightLoader singleFlightLoader = singleFlightLoader(true);
+        doReturn(valueOperations).when(template).opsForValue();
+        doReturn(false).when(valueOperations).setIfAbsent(eq("lease:driver:1"), anyString(), any(Duration.class));
+        doReturn(Arrays.asList(null, "token"), Arrays.asList(null, null))
+                .when(valueOperations).multiGet(List.of("driver:1", "lease:driver:1"));
+        long start = System.currentTimeMillis();
+
+        //when
+        String value = singleFlightLoader.load("driver:1", () -> "Alex");
+
+        //then
+        assertEquals("Alex", value);
+        assertTrue(System.currentTimeMillis() - start < 500);
+        assertEquals(1, loads("lease_released"));
+        assertEquals(1, loads("loaded"));
+        assertEquals(0, loads("lease_timeout"));
+        verify(valueOperations, times(2)).multiGet(List.of("driver:1", "lease:driver:1"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.software.modsen.drivermicroservice.cache;
+
+import com.software.modsen.drivermicroservice.services.RedisService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionalCacheWriterTest {
+    @Mock
+    RedisService redisService;
+
+    @InjectMocks
+    TransactionalCacheWriter cacheWriter;
+
+    @AfterEach
+    void setDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    @Test
+    @DisplayName("Writing to cache without transaction.")
+    void saveToCacheTest_WithoutTransaction_WritesImmediately() {
+        //when
+        cacheWriter.saveToCache("driver:1", "Alex", 1, TimeUnit.HOURS);
+
+        //then
+        verify(redisService).saveToCache("driver:1", "Alex", 1, TimeUnit.HOURS);
+    }
+
+    @Test
+    @DisplayName("Writing to cache after transaction commit.")
+    void saveToCacheTest_WithCommittedTransaction_WritesInOrderAfterCommit() {
+        //given
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        cacheWriter.invalidateCache("driver:1");
+        cacheWriter.saveToCache("driver:1", "Alex", 1, TimeUnit.HOURS);
+        verifyNoInteractions(redisService);
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        //then
+        InOrder inOrder = inOrder(redisService);
+        inOrder.verify(redisService).invalidateCache("driver:1");
+        inOrder.verify(redisService).saveToCache("driver:1", "Alex", 1, TimeUnit.HOURS);
+    }
+
+    @Test
+    @DisplayName("Dropping cache writes after transaction rollback.")
+    void saveToCacheTest_WithRolledBackTransaction_DropsWrites() {
+        //given
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        cacheWriter.saveToCache("driver:1", "Alex", 1, TimeUnit.HOURS);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        //then
+        verifyNoInteractions(redisService);
+    }
+}
@@ -0,0 +1,111 @@
+package com.software.modsen.drivermicroservice.cache.codec;
+
+import com.software.modsen.drivermicroservice.entities.car.Car;
+import com.software.modsen.drivermicroservice.entities.car.CarBrand;
+import com.software.modsen.drivermicroservice.entities.car.CarColor;
+import com.software.modsen.drivermicroservice.entities.driver.Driver;
+import com.software.modsen.drivermicroservice.entities.driver.Sex;
+import com.software.modsen.drivermicroservice.entities.driver.rating.DriverRating;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryRedisSerializerTest {
+    GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    BinaryRedisSerializer serializer = new BinaryRedisSerializer(
+            List.of(new StringCodec(), new CarCodec(), new DriverCodec(), new DriverRatingCodec()),
+            jsonSerializer, 512);
+
+    private Driver driver() {
+        return new Driver(1, "Alex", "alex@gmail.com", "+375299999999", Sex.MALE,
+                new Car(1, CarColor.BLUE, CarBrand.AUDI, "1234AB-1", false), false);
+    }
+
+    @Test
+    @DisplayName("Serializing cached entities to binary format.")
+    void serializeTest_WithCachedEntities_ReturnsSameEntitiesAfterDeserialization() {
+        //given
+        Driver driver = driver();
+        DriverRating driverRating = new DriverRating(3, driver, 4.5F, null);
+
+        //when
+        byte[] driverBytes = serializer.serialize(driver);
+        byte[] driverRatingBytes = serializer.serialize(driverRating);
+
+        //then
+        assertEquals(driver, serializer.deserialize(driverBytes));
+        assertEquals(driverRating, serializer.deserialize(driverRatingBytes));
+        assertEquals("1|driver:1", serializer.deserialize(serializer.serialize("1|driver:1")));
+        assertTrue(driverBytes.length < jsonSerializer.serialize(driver).length / 2);
+    }
+
+    @Test
+    @DisplayName("Serializing large value with compression.")
+    void serializeTest_WithLargeValue_ReturnsCompressedValue() {
+        //given
+        String value = "driver:1,".repeat(1000);
+
+        //when
+        byte[] bytes = serializer.serialize(value);
+
+        //then
+        assertTrue(bytes.length < value.length() / 10);
+        assertEquals(value, serializer.deserialize(bytes));
+    }
+
+    @Test
+    @DisplayName("Deserializing values written by JSON serializer and values without codec.")
+    void deserializeTest_WithJsonValues_ReturnsValues() {
+        //given
+        byte[] legacyDriverBytes = jsonSerializer.serialize(driver());
+        Map<String, Long> valueWithoutCodec = new HashMap<>(Map.of("driverId", 1L));
+
+        //when
+        Object legacyDriver = serializer.deserialize(legacyDriverBytes);
+        Object deserializedValueWithoutCodec = serializer.deserialize(serializer.serialize(valueWithoutCodec));
+
+        //then
+        assertEquals(driver(), legacyDriver);
+        assertEquals(valueWithoutCodec, deserializedValueWithoutCodec);
+    }
+
+    @Test
+    @DisplayName("Creating serializer with codecs having the same type id.")
+    void constructorTest_WithDuplicatedTypeIds_ReturnsException() {
+        //when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new BinaryRedisSerializer(List.of(new CarCodec(), new CarCodec()), jsonSerializer, 512));
+
+        //then
+        assertEquals("Codecs CarCodec and CarCodec have the same type id.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Reading binary values after binary encoding was disabled.")
+    void deserializeTest_WithBinaryEncodingDisabled_ReadsBinaryAndWritesJson() {
+        //given
+        BinaryRedisSerializer jsonWritingSerializer = new BinaryRedisSerializer(
+                List.of(new StringCodec(), new CarCodec(), new DriverCodec(), new DriverRatingCodec()),
+                jsonSerializer, Integer.MAX_VALUE, false);
+        byte[] binaryDriverBytes = serializer.serialize(driver());
+        byte[] binaryMessageBytes = serializer.serialize("1|driver:1");
+        byte[] compressedBytes = serializer.serialize("driver:1,".repeat(1000));
+
+        //when
+        byte[] jsonDriverBytes = jsonWritingSerializer.serialize(driver());
+
+        //then
+        assertEquals(driver(), jsonWritingSerializer.deserialize(binaryDriverBytes));
+        assertEquals("1|driver:1", jsonWritingSerializer.deserialize(binaryMessageBytes));
+        assertEquals("driver:1,".repeat(1000), jsonWritingSerializer.deserialize(compressedBytes));
+        assertArrayEquals(jsonSerializer.serialize(driver()), jsonDriverBytes);
+        assertEquals(driver(), serializer.deserialize(jsonDriverBytes));
+    }
+}
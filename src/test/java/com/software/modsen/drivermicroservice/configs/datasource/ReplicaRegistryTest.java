@@ -0,0 +1,138 @@
+package com.software.modsen.drivermicroservice.configs.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReplicaRegistryTest {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private static HikariDataSource replica(String poolName) {
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        lenient().doReturn(poolName).when(dataSource).getPoolName();
+
+        return dataSource;
+    }
+
+    private static void reportLag(HikariDataSource dataSource, Double lagMillis) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        doReturn(connection).when(dataSource).getConnection();
+        doReturn(statement).when(connection).createStatement();
+        doReturn(resultSet).when(statement).executeQuery(anyString());
+        doReturn(lagMillis == null ? 0 : lagMillis).when(resultSet).getDouble(1);
+        doReturn(lagMillis == null).when(resultSet).wasNull();
+    }
+
+    private double gauge(String name, String poolName) {
+        return meterRegistry.get(name).tag("pool", poolName).gauge().value();
+    }
+
+    @Test
+    @DisplayName("Keeping replicas unhealthy until the first health check.")
+    void nextHealthyReplicaTest_BeforeHealthCheck_ReturnsEmpty() {
+        //given
+        ReplicaRegistry replicaRegistry = new ReplicaRegistry(List.of(replica("pool-replica-1")), 5000,
+                meterRegistry);
+
+        //when
+        Optional<ReplicaRegistry.Replica> replica = replicaRegistry.nextHealthyReplica();
+
+        //then
+        assertTrue(replica.isEmpty());
+        assertEquals(0, gauge("datasource.replica.healthy", "pool-replica-1"));
+    }
+
+    @Test
+    @DisplayName("Marking replica unhealthy when lag exceeds limit and healthy again when it catches up.")
+    void checkReplicasTest_WithLagAboveAndBelowLimit_TogglesHealth() throws SQLException {
+        //given
+        HikariDataSource dataSource = replica("pool-replica-1");
+        ReplicaRegistry replicaRegistry = new ReplicaRegistry(List.of(dataSource), 5000, meterRegistry);
+        ReplicaRegistry.Replica replica = replicaRegistry.getReplicas().get(0);
+
+        //when
+        reportLag(dataSource, 120.0);
+        replicaRegistry.checkReplicas();
+        boolean healthyWithSmallLag = replica.isHealthy();
+
+        reportLag(dataSource, 7000.0);
+        replicaRegistry.checkReplicas();
+        boolean healthyWithLargeLag = replica.isHealthy();
+        double largeLag = gauge("datasource.replica.lag", "pool-replica-1");
+
+        reportLag(dataSource, 5000.0);
+        replicaRegistry.checkReplicas();
+
+        //then
+        assertTrue(healthyWithSmallLag);
+        assertFalse(healthyWithLargeLag);
+        assertEquals(7000, largeLag);
+        assertTrue(replica.isHealthy());
+        assertEquals(1, gauge("datasource.replica.healthy", "pool-replica-1"));
+    }
+
+    @Test
+    @DisplayName("Marking replica unhealthy when it is unreachable or reports unknown lag.")
+    void checkReplicasTest_WithUnreachableOrUnknownLag_MarksUnhealthy() throws SQLException {
+        //given
+        HikariDataSource unreachable = replica("pool-replica-1");
+        HikariDataSource unknownLag = replica("pool-replica-2");
+        ReplicaRegistry replicaRegistry = new ReplicaRegistry(List.of(unreachable, unknownLag), 5000,
+                meterRegistry);
+        reportLag(unreachable, 0.0);
+        reportLag(unknownLag, 0.0);
+        replicaRegistry.checkReplicas();
+
+        //when
+        doThrow(new SQLException("Connection refused")).when(unreachable).getConnection();
+        reportLag(unknownLag, null);
+        replicaRegistry.checkReplicas();
+
+        //then
+        assertTrue(replicaRegistry.getReplicas().stream().noneMatch(ReplicaRegistry.Replica::isHealthy));
+        assertTrue(Double.isNaN(gauge("datasource.replica.lag", "pool-replica-1")));
+        assertTrue(Double.isNaN(gauge("datasource.replica.lag", "pool-replica-2")));
+        assertTrue(replicaRegistry.nextHealthyReplica().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Picking healthy replicas round-robin and skipping unhealthy ones.")
+    void nextHealthyReplicaTest_WithOneUnhealthyReplica_RotatesHealthyReplicas() throws SQLException {
+        //given
+        HikariDataSource first = replica("pool-replica-1");
+        HikariDataSource lagging = replica("pool-replica-2");
+        HikariDataSource third = replica("pool-replica-3");
+        ReplicaRegistry replicaRegistry = new ReplicaRegistry(List.of(first, lagging, third), 5000, meterRegistry);
+        reportLag(first, 0.0);
+        reportLag(lagging, 60_000.0);
+        reportLag(third, 10.0);
+        replicaRegistry.checkReplicas();
+
+        //when
+        List<String> picked = List.of(
+                replicaRegistry.nextHealthyReplica().orElseThrow().name(),
+                replicaRegistry.nextHealthyReplica().orElseThrow().name(),
+                replicaRegistry.nextHealthyReplica().orElseThrow().name(),
+                replicaRegistry.nextHealthyReplica().orElseThrow().name());
+
+        //then
+        assertEquals(List.of("pool-replica-1", "pool-replica-3", "pool-replica-1", "pool-replica-3"), picked);
+    }
+}
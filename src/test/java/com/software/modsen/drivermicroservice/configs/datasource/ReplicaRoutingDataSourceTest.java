@@ -0,0 +1,117 @@
+package com.software.modsen.drivermicroservice.configs.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReplicaRoutingDataSourceTest {
+    @Mock
+    DataSource primaryDataSource;
+
+    @Mock
+    Connection primaryConnection;
+
+    HikariDataSource firstReplica;
+
+    HikariDataSource secondReplica;
+
+    Connection firstReplicaConnection = mock(Connection.class);
+
+    Connection secondReplicaConnection = mock(Connection.class);
+
+    ReplicaRegistry replicaRegistry;
+
+    ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        firstReplica = replica("pool-replica-1", firstReplicaConnection);
+        secondReplica = replica("pool-replica-2", secondReplicaConnection);
+        replicaRegistry = new ReplicaRegistry(List.of(firstReplica, secondReplica), 5000, new SimpleMeterRegistry());
+        replicaRoutingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicaRegistry);
+        lenient().doReturn(primaryConnection).when(primaryDataSource).getConnection();
+    }
+
+    private static HikariDataSource replica(String poolName, Connection connection) throws SQLException {
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        lenient().doReturn(poolName).when(dataSource).getPoolName();
+        lenient().doReturn(connection).when(dataSource).getConnection();
+        lenient().doReturn(statement).when(connection).createStatement();
+        lenient().doReturn(resultSet).when(statement).executeQuery(anyString());
+
+        return dataSource;
+    }
+
+    @Test
+    @DisplayName("Routing read-only connections to healthy replicas round-robin.")
+    void getConnectionTest_WithHealthyReplicas_RotatesReplicas() throws SQLException {
+        //given
+        replicaRegistry.checkReplicas();
+
+        //when
+        List<Connection> connections = List.of(
+                replicaRoutingDataSource.getConnection(),
+                replicaRoutingDataSource.getConnection(),
+                replicaRoutingDataSource.getConnection());
+
+        //then
+        assertEquals(List.of(firstReplicaConnection, secondReplicaConnection, firstReplicaConnection), connections);
+        verify(primaryDataSource, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Falling back to primary when no replica is healthy.")
+    void getConnectionTest_WithoutHealthyReplicas_ReturnsPrimaryConnection() throws SQLException {
+        //given
+        doThrow(new SQLException("Connection refused")).when(firstReplica).getConnection();
+        doThrow(new SQLException("Connection refused")).when(secondReplica).getConnection();
+        replicaRegistry.checkReplicas();
+
+        //when
+        Connection connection = replicaRoutingDataSource.getConnection();
+
+        //then
+        assertSame(primaryConnection, connection);
+    }
+
+    @Test
+    @DisplayName("Routing cache-filling reads to primary even when replicas are healthy.")
+    void getConnectionTest_InsidePrimaryReads_ReturnsPrimaryConnection() throws SQLException {
+        //given
+        replicaRegistry.checkReplicas();
+
+        //when
+        Connection connection = PrimaryReads.call(() -> {
+            try {
+                return replicaRoutingDataSource.getConnection();
+            } catch (SQLException exception) {
+                throw new IllegalStateException(exception);
+            }
+        });
+        Connection connectionAfterPrimaryReads = replicaRoutingDataSource.getConnection();
+
+        //then
+        assertSame(primaryConnection, connection);
+        assertSame(firstReplicaConnection, connectionAfterPrimaryReads);
+        assertFalse(PrimaryReads.isRequired());
+    }
+}
@@ -1,6 +1,7 @@
 package com.software.modsen.drivermicroservice.controllers;
 
 import com.software.modsen.drivermicroservice.entities.car.*;
+import com.software.modsen.drivermicroservice.entities.page.KeysetPage;
 import com.software.modsen.drivermicroservice.mappers.CarMapper;
 import com.software.modsen.drivermicroservice.services.CarService;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,11 +48,11 @@ public class CarControllerTest {
     @DisplayName("Getting all cars.")
     void getAllCarsTest_ReturnsValidResponseEntity() {
         //given
-        List<Car> carsFromDb = initCars();
-        doReturn(carsFromDb).when(this.carService).getAllCars(true);
+        KeysetPage<Car> carsFromDb = new KeysetPage<>(initCars(), null);
+        doReturn(carsFromDb).when(this.carService).getAllCars(true, null, 20);
 
         //when
-        ResponseEntity<List<Car>> responseEntity = carController.getAllCars(true);
+        ResponseEntity<KeysetPage<Car>> responseEntity = carController.getAllCars(true, null, 20);
 
         //then
         assertNotNull(responseEntity);
@@ -63,11 +64,11 @@ public class CarControllerTest {
     @DisplayName("Getting all not deleted cars.")
     void getAllNotDeletedCarsTest_ReturnsValidResponseEntity() {
         //given
-        List<Car> carsFromDb = initCars();
-        doReturn(carsFromDb).when(this.carService).getAllCars(false);
+        KeysetPage<Car> carsFromDb = new KeysetPage<>(initCars(), null);
+        doReturn(carsFromDb).when(this.carService).getAllCars(false, null, 20);
 
         //when
-        ResponseEntity<List<Car>> responseEntity = carController.getAllCars(false);
+        ResponseEntity<KeysetPage<Car>> responseEntity = carController.getAllCars(false, null, 20);
 
         //then
         assertNotNull(responseEntity);
@@ -7,8 +7,10 @@ import com.software.modsen.drivermicroservice.entities.driver.Driver;
 import com.software.modsen.drivermicroservice.entities.driver.Sex;
 import com.software.modsen.drivermicroservice.entities.driver.account.Currency;
 import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccount;
+import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccountSummary;
 import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccountBalanceUpDto;
 import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccountBalanceDownDto;
+import com.software.modsen.drivermicroservice.entities.page.KeysetPage;
 import com.software.modsen.drivermicroservice.mappers.DriverAccountMapper;
 import com.software.modsen.drivermicroservice.services.DriverAccountService;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,31 +46,22 @@ public class DriverAccountControllerTest {
         driverAccountMapper = DriverAccountMapper.INSTANCE;
     }
 
-    private List<DriverAccount> initDriverAccounts() {
+    private List<DriverAccountSummary> initDriverAccountSummaries() {
         return List.of(
-                new DriverAccount(1,
-                        new Driver(1, "Alex", "alex@gmail.com",
-                                "+375299999999", Sex.MALE, new Car(1, CarColor.BLUE, CarBrand.AUDI,
-                                "1234AB-1", false), false),
-                        100f, Currency.BYN),
-                new DriverAccount(2,
-                        new Driver(2, "Ivan", "ivan@gmail.com",
-                                "+375332929293", Sex.MALE, new Car(2, CarColor.GREEN, CarBrand.ASTON_MARTIN,
-                                "A123BC-2", false), false),
-                        90f, Currency.BYN)
-        );
+                new DriverAccountSummary(1, 1, "Alex", 100f, Currency.BYN),
+                new DriverAccountSummary(2, 2, "Ivan", 90f, Currency.BYN));
     }
 
     @Test
     @DisplayName("Getting all of driver accounts.")
     void getAllDriverAccountsTest_ReturnsValidResponseEntity() {
         //given
-        List<DriverAccount> driverAccounts = initDriverAccounts();
-        doReturn(driverAccounts).when(this.driverAccountService).getAllDriverAccounts(true);
+        KeysetPage<DriverAccountSummary> driverAccounts = new KeysetPage<>(initDriverAccountSummaries(), null);
+        doReturn(driverAccounts).when(this.driverAccountService).getAllDriverAccounts(true, null, 20);
 
         //when
-        ResponseEntity<List<DriverAccount>> responseEntity = driverAccountController
-                .getAllDriverAccounts(true);
+        ResponseEntity<KeysetPage<DriverAccountSummary>> responseEntity = driverAccountController
+                .getAllDriverAccounts(true, null, 20);
 
         //then
         assertNotNull(responseEntity);
@@ -80,12 +73,12 @@ public class DriverAccountControllerTest {
     @DisplayName("Getting all not deleted of driver account.")
     void getAllNotDeletedDriverAccountsTest_ReturnsValidResponseEntity() {
         //given
-        List<DriverAccount> driverAccounts = initDriverAccounts();
-        doReturn(driverAccounts).when(this.driverAccountService).getAllDriverAccounts(false);
+        KeysetPage<DriverAccountSummary> driverAccounts = new KeysetPage<>(initDriverAccountSummaries(), null);
+        doReturn(driverAccounts).when(this.driverAccountService).getAllDriverAccounts(false, null, 20);
 
         //when
-        ResponseEntity<List<DriverAccount>> responseEntity =
-                driverAccountController.getAllDriverAccounts(false);
+        ResponseEntity<KeysetPage<DriverAccountSummary>> responseEntity =
+                driverAccountController.getAllDriverAccounts(false, null, 20);
 
         //then
         assertNotNull(responseEntity);
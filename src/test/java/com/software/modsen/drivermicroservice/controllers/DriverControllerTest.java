@@ -1,14 +1,21 @@
 package com.software.modsen.drivermicroservice.controllers;
 
+import com.software.modsen.drivermicroservice.cache.BatchLookup;
 import com.software.modsen.drivermicroservice.entities.car.Car;
 import com.software.modsen.drivermicroservice.entities.car.CarBrand;
 import com.software.modsen.drivermicroservice.entities.car.CarColor;
 import com.software.modsen.drivermicroservice.entities.driver.Driver;
 import com.software.modsen.drivermicroservice.entities.driver.DriverDto;
+import com.software.modsen.drivermicroservice.entities.driver.DriverOnboardingResult;
 import com.software.modsen.drivermicroservice.entities.driver.DriverPatchDto;
 import com.software.modsen.drivermicroservice.entities.driver.Sex;
+import com.software.modsen.drivermicroservice.entities.page.KeysetPage;
+import com.software.modsen.drivermicroservice.exceptions.GlobalExceptionHandler;
 import com.software.modsen.drivermicroservice.mappers.DriverMapper;
+import com.software.modsen.drivermicroservice.services.DriverOnboardingService;
 import com.software.modsen.drivermicroservice.services.DriverService;
+import com.software.modsen.drivermicroservice.services.ExportService;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,13 +24,24 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
+import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.TOO_MANY_IDS_IN_BATCH_MESSAGE;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
 @ExtendWith(MockitoExtension.class)
 public class DriverControllerTest {
@@ -33,6 +51,12 @@ public class DriverControllerTest {
     @Mock
     DriverMapper driverMapper;
 
+    @Mock
+    ExportService exportService;
+
+    @Mock
+    DriverOnboardingService driverOnboardingService;
+
     @InjectMocks
     DriverController driverController;
 
@@ -55,11 +79,11 @@ public class DriverControllerTest {
     @DisplayName("Getting all drivers.")
     void getAllDriversTest_ReturnsValidResponseEntity() {
         //given
-        List<Driver> driversFromDb = initDrivers();
-        doReturn(driversFromDb).when(this.driverService).getAllDrivers(true, null);
+        KeysetPage<Driver> driversFromDb = new KeysetPage<>(initDrivers(), null);
+        doReturn(driversFromDb).when(this.driverService).getAllDrivers(true, null, null, 20);
 
         //when
-        ResponseEntity<List<Driver>> responseEntity = driverController.getAllDrivers(true, null);
+        ResponseEntity<KeysetPage<Driver>> responseEntity = driverController.getAllDrivers(true, null, null, 20);
 
         //then
         assertNotNull(responseEntity);
@@ -67,15 +91,53 @@ public class DriverControllerTest {
         assertEquals(driversFromDb, responseEntity.getBody());
     }
 
+    @Test
+    @SneakyThrows
+    @DisplayName("Exporting all drivers.")
+    void exportDriversTest_ReturnsNdjsonStream() {
+        //given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        ResponseEntity<StreamingResponseBody> responseEntity = driverController.exportDrivers();
+        responseEntity.getBody().writeTo(outputStream);
+
+        //then
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, responseEntity.getHeaders().getContentType());
+        verify(exportService).exportDrivers(outputStream);
+    }
+
+    @Test
+    @DisplayName("Onboarding drivers in bulk.")
+    void onboardDriversTest_ReturnsValidResponseEntity() {
+        //given
+        List<DriverDto> driverDtos = List.of(
+                new DriverDto("Alex", "alex@gmail.com", "+375299999999", Sex.MALE, 1L),
+                new DriverDto("Ivan", "ivan@gmail.com", "+375332929293", Sex.MALE, 2L));
+        List<DriverOnboardingResult> results = List.of(
+                DriverOnboardingResult.created(0, 1),
+                DriverOnboardingResult.created(1, 2));
+        doReturn(results).when(this.driverOnboardingService).onboardDrivers(driverDtos);
+
+        //when
+        ResponseEntity<List<DriverOnboardingResult>> responseEntity = driverController.onboardDrivers(driverDtos);
+
+        //then
+        assertNotNull(responseEntity);
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(results, responseEntity.getBody());
+    }
+
     @Test
     @DisplayName("Getting all not deleted drivers.")
     void getAllNotDeletedDriversTest_ReturnsValidResponseEntity() {
         //given
-        List<Driver> driversFromDb = initDrivers();
-        doReturn(driversFromDb).when(this.driverService).getAllDrivers(false, null);
+        KeysetPage<Driver> driversFromDb = new KeysetPage<>(initDrivers(), null);
+        doReturn(driversFromDb).when(this.driverService).getAllDrivers(false, null, null, 20);
 
         //when
-        ResponseEntity<List<Driver>> responseEntity = driverController.getAllDrivers(false, null);
+        ResponseEntity<KeysetPage<Driver>> responseEntity = driverController.getAllDrivers(false, null, null, 20);
 
         //then
         assertNotNull(responseEntity);
@@ -247,4 +309,30 @@ public class DriverControllerTest {
         assertEquals(softRecoveryDriver.getCar(), responseEntity.getBody().getCar());
         assertFalse(responseEntity.getBody().isDeleted());
     }
-}
\ No newline at end of file
+
+    @Test
+    @SneakyThrows
+    @DisplayName("Getting too many drivers by ids.")
+    void getDriversByIdsTest_WithTooManyIds_ReturnsBadRequest() {
+        //given
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(driverController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        String ids = LongStream.rangeClosed(1, BatchLookup.MAX_IDS_PER_BATCH + 1)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(",", "[", "]"));
+        doAnswer(invocation -> BatchLookup.distinctIds(invocation.getArgument(0)))
+                .when(this.driverService).getDriversByIds(anyList());
+
+        //when
+        MvcResult mvcResult = mockMvc.perform(post("/api/drivers/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ids))
+                .andReturn();
+
+        //then
+        assertEquals(HttpStatus.BAD_REQUEST.value(), mvcResult.getResponse().getStatus());
+        assertEquals(String.format(TOO_MANY_IDS_IN_BATCH_MESSAGE, BatchLookup.MAX_IDS_PER_BATCH),
+                mvcResult.getResponse().getContentAsString());
+    }
+}
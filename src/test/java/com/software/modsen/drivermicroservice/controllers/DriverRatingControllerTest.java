@@ -8,6 +8,7 @@ import com.software.modsen.drivermicroservice.entities.driver.Sex;
 import com.software.modsen.drivermicroservice.entities.driver.rating.DriverRating;
 import com.software.modsen.drivermicroservice.entities.driver.rating.DriverRatingPatchDto;
 import com.software.modsen.drivermicroservice.entities.driver.rating.DriverRatingPutDto;
+import com.software.modsen.drivermicroservice.entities.page.KeysetPage;
 import com.software.modsen.drivermicroservice.mappers.DriverRatingMapper;
 import com.software.modsen.drivermicroservice.services.DriverRatingService;
 import org.junit.jupiter.api.BeforeEach;
@@ -62,12 +63,12 @@ public class DriverRatingControllerTest {
     @DisplayName("Getting all driver ratings.")
     void getAllDriverRatingsTest_ReturnsValidResponseEntity() {
         //given
-        List<DriverRating> driverRatings = initDriverRatings();
-        doReturn(driverRatings).when(this.driverRatingService).getAllDriverRatings(true);
+        KeysetPage<DriverRating> driverRatings = new KeysetPage<>(initDriverRatings(), null);
+        doReturn(driverRatings).when(this.driverRatingService).getAllDriverRatings(true, null, 20);
 
         //when
-        ResponseEntity<List<DriverRating>> responseEntity = driverRatingControllerRatingController
-                .getAllDriverRatings(true);
+        ResponseEntity<KeysetPage<DriverRating>> responseEntity = driverRatingControllerRatingController
+                .getAllDriverRatings(true, null, 20);
 
         //then
         assertNotNull(responseEntity);
@@ -79,12 +80,12 @@ public class DriverRatingControllerTest {
     @DisplayName("Getting all not deleted driver ratings.")
     void getAllNotDeletedDriverRatingsRatingsTest_ReturnsValidResponseEntity() {
         //given
-        List<DriverRating> driverRatings = initDriverRatings();
-        doReturn(driverRatings).when(this.driverRatingService).getAllDriverRatings(false);
+        KeysetPage<DriverRating> driverRatings = new KeysetPage<>(initDriverRatings(), null);
+        doReturn(driverRatings).when(this.driverRatingService).getAllDriverRatings(false, null, 20);
 
         //when
-        ResponseEntity<List<DriverRating>> responseEntity =
-                driverRatingControllerRatingController.getAllDriverRatings(false);
+        ResponseEntity<KeysetPage<DriverRating>> responseEntity =
+                driverRatingControllerRatingController.getAllDriverRatings(false, null, 20);
 
         //then
         assertNotNull(responseEntity);
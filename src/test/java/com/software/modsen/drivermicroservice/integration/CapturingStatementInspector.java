@@ -0,0 +1,34 @@
+package com.software.modsen.drivermicroservice.integration;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CapturingStatementInspector implements StatementInspector {
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+
+        if (statements != null) {
+            statements.add(sql);
+        }
+
+        return sql;
+    }
+
+    public static List<String> capture(Runnable runnable) {
+        List<String> statements = new ArrayList<>();
+        STATEMENTS.set(statements);
+
+        try {
+            runnable.run();
+        } finally {
+            STATEMENTS.remove();
+        }
+
+        return statements;
+    }
+}
@@ -6,19 +6,25 @@ import com.software.modsen.drivermicroservice.entities.car.CarColor;
 import com.software.modsen.drivermicroservice.entities.driver.Driver;
 import com.software.modsen.drivermicroservice.entities.driver.Sex;
 import com.software.modsen.drivermicroservice.entities.driver.rating.DriverRating;
+import com.software.modsen.drivermicroservice.entities.page.KeysetPage;
 import com.software.modsen.drivermicroservice.repositories.CarRepository;
 import com.software.modsen.drivermicroservice.repositories.DriverAccountRepository;
 import com.software.modsen.drivermicroservice.repositories.DriverRatingRepository;
 import com.software.modsen.drivermicroservice.repositories.DriverRepository;
 import com.software.modsen.drivermicroservice.services.CarService;
+import com.software.modsen.drivermicroservice.services.DriverRatingService;
 import com.software.modsen.drivermicroservice.services.DriverService;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.SneakyThrows;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -33,6 +39,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
 @AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 public class DriverRatingControllerIntegrationTest extends TestconteinersConfig {
     @Autowired
     private MockMvc mockMvc;
@@ -55,6 +62,12 @@ public class DriverRatingControllerIntegrationTest extends TestconteinersConfig
     @Autowired
     private DriverAccountRepository driverAccountRepository;
 
+    @Autowired
+    private DriverRatingService driverRatingService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @AfterEach
     void setDown() {
         driverAccountRepository.deleteAll();
@@ -193,6 +206,27 @@ public class DriverRatingControllerIntegrationTest extends TestconteinersConfig
         );
     }
 
+    @Test
+    void getAllNotDeletedDriverRatingsTest_ExecutesSingleQuery() {
+        //given
+        List<Car> cars = defaultCars();
+        List<Driver> drivers = defaultDrivers();
+        for (int i = 0; i < cars.size(); i++) {
+            Car car = carService.saveCar(cars.get(i));
+            driverService.saveDriver(car.getId(), drivers.get(i));
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        KeysetPage<DriverRating> driverRatings = driverRatingService.getAllDriverRatings(false, null, 20);
+
+        //then
+        assertEquals(2, driverRatings.content().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
     @Test
     @SneakyThrows
     void getDriverRatingByIdTest_ReturnsDriverRating() {
@@ -0,0 +1,146 @@
+package com.software.modsen.drivermicroservice.integration;
+
+import com.software.modsen.drivermicroservice.entities.driver.Driver;
+import com.software.modsen.drivermicroservice.repositories.DriverRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark.enabled", matches = "true")
+public class DriverReadLockBenchmarkTest extends TestconteinersConfig {
+    private static final int SEEDED_DRIVERS = 20;
+
+    private static final int READERS = 8;
+
+    private static final int WRITERS = 4;
+
+    private static final long WRITE_HOLD_MILLIS = 5;
+
+    private static final long RUN_MILLIS = 10_000;
+
+    @Autowired
+    private DriverRepository driverRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate writeTransaction;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO car (color, brand, car_number, is_deleted)
+                SELECT 'BLUE', 'AUDI', 'BM' || g, false
+                FROM generate_series(1, ?) g""", SEEDED_DRIVERS);
+        jdbcTemplate.update("""
+                INSERT INTO driver (name, email, phone_number, sex, car_id, is_deleted)
+                SELECT 'Driver', 'driver' || g || '@gmail.com', '+3752900' || lpad(g::text, 5, '0'), 'MALE', g, false
+                FROM generate_series(1, ?) g""", SEEDED_DRIVERS);
+
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void setDown() {
+        jdbcTemplate.execute("TRUNCATE driver, car RESTART IDENTITY CASCADE");
+    }
+
+    @Test
+    @DisplayName("Reading drivers with share lock against lock-free reads under concurrent updates.")
+    void driverReadsUnderConcurrentUpdatesBenchmark() throws InterruptedException {
+        //given
+        LongConsumer readWithShareLock = id -> writeTransaction.executeWithoutResult(status ->
+                entityManager.find(Driver.class, id, LockModeType.PESSIMISTIC_READ));
+        LongConsumer readWithoutLock = id -> readOnlyTransaction.executeWithoutResult(status ->
+                driverRepository.findById(id));
+
+        //when
+        long shareLockReads = readUnderConcurrentUpdates(readWithShareLock);
+        long lockFreeReads = readUnderConcurrentUpdates(readWithoutLock);
+
+        //then
+        System.out.printf("Share lock reads: %d in %d ms%n", shareLockReads, RUN_MILLIS);
+        System.out.printf("Lock-free reads: %d in %d ms%n", lockFreeReads, RUN_MILLIS);
+
+        assertTrue(lockFreeReads > shareLockReads);
+    }
+
+    private long readUnderConcurrentUpdates(LongConsumer read) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong reads = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(READERS + WRITERS);
+
+        for (int i = 0; i < WRITERS; i++) {
+            executor.submit(() -> {
+                while (running.get()) {
+                    writeTransaction.executeWithoutResult(status -> {
+                        Driver driver = driverRepository.findByIdForUpdate(randomDriverId()).orElseThrow();
+                        driver.setName("Driver" + ThreadLocalRandom.current().nextInt(1000));
+                        sleep(WRITE_HOLD_MILLIS);
+                    });
+                }
+            });
+        }
+
+        for (int i = 0; i < READERS; i++) {
+            executor.submit(() -> {
+                while (running.get()) {
+                    read.accept(randomDriverId());
+                    reads.incrementAndGet();
+                }
+            });
+        }
+
+        Thread.sleep(RUN_MILLIS);
+        running.set(false);
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        return reads.get();
+    }
+
+    private static long randomDriverId() {
+        return ThreadLocalRandom.current().nextLong(1, SEEDED_DRIVERS + 1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.software.modsen.drivermicroservice.integration;
+
+import com.software.modsen.drivermicroservice.repositories.CarRepository;
+import com.software.modsen.drivermicroservice.repositories.DriverAccountRepository;
+import com.software.modsen.drivermicroservice.repositories.DriverRatingRepository;
+import com.software.modsen.drivermicroservice.repositories.DriverRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.software.modsen.drivermicroservice.integration.CapturingStatementInspector")
+@Transactional
+public class QueryPlanIntegrationTest extends TestconteinersConfig {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DriverRepository driverRepository;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private DriverAccountRepository driverAccountRepository;
+
+    @Autowired
+    private DriverRatingRepository driverRatingRepository;
+
+    @FunctionalInterface
+    private interface RepositoryQuery {
+        void run(QueryPlanIntegrationTest test);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+    }
+
+    private static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                query("DriverRepository.findDriverByIdAndIsDeleted",
+                        test -> test.driverRepository.findDriverByIdAndIsDeleted(1, false)),
+                query("DriverRepository.existsByIdAndIsDeleted",
+                        test -> test.driverRepository.existsByIdAndIsDeleted(1, false)),
+                query("DriverRepository.findByName",
+                        test -> test.driverRepository.findByName("Vlad")),
+                query("DriverRepository.findByIdGreaterThanOrderById",
+                        test -> test.driverRepository.findByIdGreaterThanOrderById(0, Limit.of(21))),
+                query("DriverRepository.findByIdGreaterThanAndIsDeletedOrderById",
+                        test -> test.driverRepository.findByIdGreaterThanAndIsDeletedOrderById(0, false,
+                                Limit.of(21))),
+                query("DriverRepository.streamAll",
+                        test -> consume(test.driverRepository.streamAll())),
+                query("DriverRepository.findAllWithCarByIdIn",
+                        test -> test.driverRepository.findAllWithCarByIdIn(List.of(1L, 2L))),
+                query("DriverRepository.findByIdForUpdate",
+                        test -> test.driverRepository.findByIdForUpdate(1)),
+                query("CarRepository.findCarByIdAndIsDeleted",
+                        test -> test.carRepository.findCarByIdAndIsDeleted(1, false)),
+                query("CarRepository.findByIdGreaterThanOrderById",
+                        test -> test.carRepository.findByIdGreaterThanOrderById(0, Limit.of(21))),
+                query("CarRepository.findByIdGreaterThanAndIsDeletedOrderById",
+                        test -> test.carRepository.findByIdGreaterThanAndIsDeletedOrderById(0, false, Limit.of(21))),
+                query("CarRepository.streamAllByOrderById",
+                        test -> consume(test.carRepository.streamAllByOrderById())),
+                query("DriverAccountRepository.findByDriverId",
+                        test -> test.driverAccountRepository.findByDriverId(1)),
+                query("DriverAccountRepository.findSummariesByIdGreaterThan",
+                        test -> test.driverAccountRepository.findSummariesByIdGreaterThan(0, Limit.of(21))),
+                query("DriverAccountRepository.findSummariesByIdGreaterThanAndDriverIsDeleted",
+                        test -> test.driverAccountRepository.findSummariesByIdGreaterThanAndDriverIsDeleted(0, false,
+                                Limit.of(21))),
+                query("DriverAccountRepository.findAllByDriverIdIn",
+                        test -> test.driverAccountRepository.findAllByDriverIdIn(List.of(1L, 2L))),
+                query("DriverAccountRepository.streamAll",
+                        test -> consume(test.driverAccountRepository.streamAll())),
+                query("DriverRatingRepository.findByDriverId",
+                        test -> test.driverRatingRepository.findByDriverId(1)),
+                query("DriverRatingRepository.findByIdGreaterThanOrderById",
+                        test -> test.driverRatingRepository.findByIdGreaterThanOrderById(0, Limit.of(21))),
+                query("DriverRatingRepository.findByIdGreaterThanAndDriver_IsDeletedOrderById",
+                        test -> test.driverRatingRepository.findByIdGreaterThanAndDriver_IsDeletedOrderById(0, false,
+                                Limit.of(21))),
+                query("DriverRatingRepository.findAllByDriverIdIn",
+                        test -> test.driverRatingRepository.findAllByDriverIdIn(List.of(1L, 2L))),
+                query("DriverRatingRepository.streamAll",
+                        test -> consume(test.driverRatingRepository.streamAll()))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void repositoryQueryTest_DoesNotUseSequentialScan(String repositoryMethod, RepositoryQuery repositoryQuery) {
+        //given
+        List<String> statements = CapturingStatementInspector.capture(() -> repositoryQuery.run(this));
+
+        //when
+        List<List<String>> plans = statements.stream()
+                .map(this::explain)
+                .toList();
+
+        //then
+        assertFalse(statements.isEmpty(), () -> repositoryMethod + " did not run any SQL.");
+
+        for (int i = 0; i < statements.size(); i++) {
+            List<String> plan = plans.get(i);
+            String sql = statements.get(i);
+
+            assertFalse(plan.stream().anyMatch(line -> line.contains("Seq Scan")),
+                    () -> repositoryMethod + " falls back to sequential scan:\n" + sql + "\n"
+                            + String.join("\n", plan));
+        }
+    }
+
+    private List<String> explain(String sql) {
+        StringBuilder preparedSql = new StringBuilder(sql.length());
+        int parameters = 0;
+
+        for (char symbol : sql.toCharArray()) {
+            if (symbol == '?') {
+                preparedSql.append('$').append(++parameters);
+            } else {
+                preparedSql.append(symbol);
+            }
+        }
+
+        jdbcTemplate.execute("PREPARE query_plan AS " + preparedSql);
+
+        try {
+            String arguments = parameters == 0
+                    ? ""
+                    : "(" + String.join(", ", Collections.nCopies(parameters, "NULL")) + ")";
+
+            return jdbcTemplate.queryForList("EXPLAIN EXECUTE query_plan" + arguments, String.class);
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE query_plan");
+        }
+    }
+
+    private static Arguments query(String repositoryMethod, RepositoryQuery repositoryQuery) {
+        return Arguments.of(repositoryMethod, repositoryQuery);
+    }
+
+    private static void consume(Stream<?> stream) {
+        try (stream) {
+            stream.findFirst();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.software.modsen.drivermicroservice.integration;
+
+import com.software.modsen.drivermicroservice.entities.car.Car;
+import com.software.modsen.drivermicroservice.entities.page.PageCursor;
+import com.software.modsen.drivermicroservice.repositories.CarRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark.enabled", matches = "true")
+public class SoftDeleteFilterBenchmarkTest extends TestconteinersConfig {
+    private static final int SEEDED_ROWS = 1_000_000;
+
+    private static final int LIVE_ROWS_TO_READ = 10_000;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO car (color, brand, car_number, is_deleted)
+                SELECT 'BLUE', 'AUDI', 'BM' || g, g % 10 < 3
+                FROM generate_series(1, ?) g""", SEEDED_ROWS);
+        jdbcTemplate.execute("ANALYZE car");
+    }
+
+    @AfterEach
+    void setDown() {
+        jdbcTemplate.execute("TRUNCATE car RESTART IDENTITY CASCADE");
+    }
+
+    @Test
+    @DisplayName("Reading not deleted cars with SQL predicate against filtering in Java.")
+    void notDeletedCarsBenchmark() {
+        //given
+        readWithJavaFilter();
+        readWithSqlPredicate();
+
+        //when
+        long javaFilterStart = System.nanoTime();
+        long javaFilterFetchedRows = readWithJavaFilter();
+        long javaFilterMillis = (System.nanoTime() - javaFilterStart) / 1_000_000;
+
+        long sqlPredicateStart = System.nanoTime();
+        long sqlPredicateFetchedRows = readWithSqlPredicate();
+        long sqlPredicateMillis = (System.nanoTime() - sqlPredicateStart) / 1_000_000;
+
+        //then
+        System.out.printf("Java filter: %d rows fetched, %d ms%n", javaFilterFetchedRows, javaFilterMillis);
+        System.out.printf("SQL predicate: %d rows fetched, %d ms%n", sqlPredicateFetchedRows, sqlPredicateMillis);
+
+        assertEquals(LIVE_ROWS_TO_READ, sqlPredicateFetchedRows);
+        assertTrue(javaFilterFetchedRows > sqlPredicateFetchedRows);
+    }
+
+    private long readWithJavaFilter() {
+        long lastId = 0;
+        long fetchedRows = 0;
+        long liveRows = 0;
+
+        while (liveRows < LIVE_ROWS_TO_READ) {
+            List<Car> cars = carRepository.findByIdGreaterThanOrderById(lastId,
+                    PageCursor.fetchLimit(PageCursor.MAX_PAGE_SIZE - 1));
+            fetchedRows += cars.size();
+            liveRows += cars.stream().filter(car -> !car.isDeleted()).count();
+            lastId = cars.get(cars.size() - 1).getId();
+        }
+
+        return fetchedRows;
+    }
+
+    private long readWithSqlPredicate() {
+        long lastId = 0;
+        long fetchedRows = 0;
+
+        while (fetchedRows < LIVE_ROWS_TO_READ) {
+            List<Car> cars = carRepository.findByIdGreaterThanAndIsDeletedOrderById(lastId, false,
+                    PageCursor.fetchLimit(PageCursor.MAX_PAGE_SIZE - 1));
+            fetchedRows += cars.size();
+            lastId = cars.get(cars.size() - 1).getId();
+        }
+
+        return fetchedRows;
+    }
+}
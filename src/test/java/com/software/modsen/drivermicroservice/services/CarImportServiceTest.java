@@ -0,0 +1,119 @@
+package com.software.modsen.drivermicroservice.services;
+
+import com.software.modsen.drivermicroservice.cache.KnownIdRegistry;
+import com.software.modsen.drivermicroservice.entities.car.CarImportError;
+import com.software.modsen.drivermicroservice.entities.car.CarImportReport;
+import com.software.modsen.drivermicroservice.exceptions.InvalidCsvFileException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CarImportServiceTest {
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    KnownIdRegistry knownIdRegistry;
+
+    CarImportService carImportService;
+
+    @BeforeEach
+    void setUp() {
+        carImportService = new CarImportService(jdbcTemplate,
+                Validation.buildDefaultValidatorFactory().getValidator(), knownIdRegistry);
+    }
+
+    private MockMultipartFile csvFile(String content) {
+        return new MockMultipartFile("file", "cars.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Importing cars from CSV file.")
+    void importCarsTest_WithInvalidRows_ReturnsReport() {
+        //given
+        MockMultipartFile file = csvFile("""
+                carNumber,color,brand
+                1234AB-1,blue,audi
+                A123BC-2,PURPLE,LADA
+                "7890AB-7","BROWN","FERRARI"
+                12-34,GREEN,BMW
+                3333AB-3,SILVER,BMW
+
+                1234AB-1,RED,VOLVO
+                """);
+        doReturn(List.of(Map.entry("1234AB-1", 1L), Map.entry("7890AB-7", 2L))).when(jdbcTemplate)
+                .query(any(PreparedStatementCreator.class), any(RowMapper.class));
+
+        //when
+        CarImportReport report = carImportService.importCars(file);
+
+        //then
+        assertEquals(6, report.totalRows());
+        assertEquals(2, report.importedRows());
+        assertEquals(4, report.failedRows());
+        assertFalse(report.errorsTruncated());
+        assertEquals(List.of(
+                new CarImportError(3, "A123BC-2", INVALID_CAR_BRAND_MESSAGE),
+                new CarImportError(5, "12-34", "Invalid car number."),
+                new CarImportError(6, "3333AB-3", INVALID_CAR_COLOR_MESSAGE),
+                new CarImportError(8, "1234AB-1", CAR_NUMBER_ALREADY_REGISTERED_MESSAGE)
+        ), report.errors());
+        verify(jdbcTemplate, times(1)).query(any(PreparedStatementCreator.class), any(RowMapper.class));
+        verify(knownIdRegistry).registerInserted(eq(KnownIdRegistry.IdType.CAR), argThat(ids ->
+                ids.containsAll(List.of(1L, 2L)) && ids.size() == 2));
+    }
+
+    @Test
+    @DisplayName("Importing cars from CSV file in several chunks.")
+    void importCarsTest_WithManyRows_InsertsByChunks() {
+        //given
+        StringBuilder content = new StringBuilder("color,brand,car_number\n");
+        for (int i = 0; i < 2500; i++) {
+            content.append("BLUE,AUDI,").append(String.format("%04dAB-1", i)).append('\n');
+        }
+        doReturn(List.of()).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowMapper.class));
+
+        //when
+        CarImportReport report = carImportService.importCars(csvFile(content.toString()));
+
+        //then
+        assertEquals(2500, report.totalRows());
+        assertEquals(2500, report.failedRows());
+        assertEquals(1000, report.errors().size());
+        assertTrue(report.errorsTruncated());
+        verify(jdbcTemplate, times(3)).query(any(PreparedStatementCreator.class), any(RowMapper.class));
+    }
+
+    @Test
+    @DisplayName("Importing cars from CSV file without header.")
+    void importCarsTest_WithInvalidCsvFileException_ReturnsException() {
+        //given
+        MockMultipartFile file = csvFile("1234AB-1,BLUE,AUDI\n");
+
+        //when
+        InvalidCsvFileException exception = assertThrows(InvalidCsvFileException.class,
+                () -> carImportService.importCars(file));
+
+        //then
+        assertEquals(INVALID_CSV_HEADER_MESSAGE, exception.getMessage());
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
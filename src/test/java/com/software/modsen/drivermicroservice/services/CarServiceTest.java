@@ -1,10 +1,14 @@
 package com.software.modsen.drivermicroservice.services;
 
+import com.software.modsen.drivermicroservice.cache.CacheInvalidator;
+import com.software.modsen.drivermicroservice.cache.KnownIdRegistry;
 import com.software.modsen.drivermicroservice.entities.car.Car;
 import com.software.modsen.drivermicroservice.entities.car.CarBrand;
 import com.software.modsen.drivermicroservice.entities.car.CarColor;
+import com.software.modsen.drivermicroservice.entities.page.KeysetPage;
 import com.software.modsen.drivermicroservice.exceptions.CarNotFoundException;
 import com.software.modsen.drivermicroservice.exceptions.CarWasDeletedException;
+import com.software.modsen.drivermicroservice.exceptions.InvalidPageCursorException;
 import com.software.modsen.drivermicroservice.repositories.CarRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,12 +16,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 import java.util.Optional;
 
 import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.CAR_NOT_FOUND_MESSAGE;
 import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.CAR_WAS_DELETED_MESSAGE;
+import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.INVALID_PAGE_CURSOR_MESSAGE;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -28,6 +34,12 @@ public class CarServiceTest {
     @Mock
     CarRepository carRepository;
 
+    @Mock
+    KnownIdRegistry knownIdRegistry;
+
+    @Mock
+    CacheInvalidator cacheInvalidator;
+
     @InjectMocks
     CarService carService;
 
@@ -44,14 +56,15 @@ public class CarServiceTest {
     void getAllCarsTest_ReturnsCars() {
         //given
         List<Car> cars = initCars();
-        doReturn(cars).when(carRepository).findAll();
+        doReturn(cars).when(carRepository).findByIdGreaterThanOrderById(0L, Limit.of(21));
 
         //when
-        List<Car> carsFromDb = carService.getAllCars(true);
+        KeysetPage<Car> carsFromDb = carService.getAllCars(true, null, 20);
 
         //then
         assertNotNull(carsFromDb);
-        assertEquals(cars, carsFromDb);
+        assertEquals(cars, carsFromDb.content());
+        assertNull(carsFromDb.nextCursor());
     }
 
     @Test
@@ -60,14 +73,26 @@ public class CarServiceTest {
         //given
         List<Car> cars = initCars();
         List<Car> notDeletedCars = List.of(cars.get(0));
-        doReturn(notDeletedCars).when(carRepository).findAll();
+        doReturn(notDeletedCars).when(carRepository)
+                .findByIdGreaterThanAndIsDeletedOrderById(0L, false, Limit.of(21));
 
         //when
-        List<Car> carsFromDb = carService.getAllCars(false);
+        KeysetPage<Car> carsFromDb = carService.getAllCars(false, null, 20);
 
         //then
         assertNotNull(carsFromDb);
-        assertEquals(notDeletedCars, carsFromDb);
+        assertEquals(notDeletedCars, carsFromDb.content());
+    }
+
+    @Test
+    @DisplayName("Getting cars page by invalid cursor.")
+    void getAllCarsTest_WithInvalidPageCursorException_ReturnsException() {
+        //when
+        InvalidPageCursorException exception = assertThrows(InvalidPageCursorException.class,
+                () -> carService.getAllCars(true, "not-a-cursor", 20));
+
+        //then
+        assertEquals(INVALID_PAGE_CURSOR_MESSAGE, exception.getMessage());
     }
 
     @Test
@@ -78,6 +103,7 @@ public class CarServiceTest {
         Optional<Car> car = Optional.of(new Car(1, CarColor.BLUE, CarBrand.AUDI,
                 "1234AB-1", false));
         doReturn(car).when(this.carRepository).findById(carId);
+        doReturn(true).when(knownIdRegistry).mightExist(KnownIdRegistry.IdType.CAR, carId);
 
         //when
         Car carFromDb = carService.getCarById(carId);
@@ -98,6 +124,39 @@ public class CarServiceTest {
         long carId = 1;
         doThrow(new CarNotFoundException(CAR_NOT_FOUND_MESSAGE))
                 .when(this.carRepository).findById(carId);
+        doReturn(true).when(knownIdRegistry).mightExist(KnownIdRegistry.IdType.CAR, carId);
+
+        //when
+        CarNotFoundException exception = assertThrows(CarNotFoundException.class,
+                () -> carService.getCarById(carId));
+
+        //then
+        assertEquals(CAR_NOT_FOUND_MESSAGE, exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Getting car by id that cannot exist.")
+    void getCarByIdTest_WithUnknownId_ReturnsExceptionWithoutDatabase() {
+        //given
+        long carId = 1;
+        doReturn(false).when(knownIdRegistry).mightExist(KnownIdRegistry.IdType.CAR, carId);
+
+        //when
+        CarNotFoundException exception = assertThrows(CarNotFoundException.class,
+                () -> carService.getCarById(carId));
+
+        //then
+        assertEquals(CAR_NOT_FOUND_MESSAGE, exception.getMessage());
+        verifyNoInteractions(carRepository);
+    }
+
+    @Test
+    @DisplayName("Getting car by id cached as missing.")
+    void getCarByIdTest_WithKnownMissingId_ReturnsExceptionWithoutDatabase() {
+        //given
+        long carId = 1;
+        doReturn(true).when(knownIdRegistry).mightExist(KnownIdRegistry.IdType.CAR, carId);
+        doReturn(true).when(knownIdRegistry).isKnownMissing(KnownIdRegistry.IdType.CAR, carId);
 
         //when
         CarNotFoundException exception = assertThrows(CarNotFoundException.class,
@@ -105,6 +164,7 @@ public class CarServiceTest {
 
         //then
         assertEquals(CAR_NOT_FOUND_MESSAGE, exception.getMessage());
+        verifyNoInteractions(carRepository);
     }
 
     @Test
@@ -115,6 +175,7 @@ public class CarServiceTest {
         Optional<Car> car = Optional.of(new Car(1, CarColor.BLUE, CarBrand.AUDI,
                 "1234AB-1", true));
         doReturn(car).when(this.carRepository).findById(carId);
+        doReturn(true).when(knownIdRegistry).mightExist(KnownIdRegistry.IdType.CAR, carId);
 
         //when
         CarWasDeletedException exception = assertThrows(CarWasDeletedException.class,
@@ -145,6 +206,7 @@ public class CarServiceTest {
         assertEquals(car.getCarNumber(), carFromDb.getCarNumber());
         assertEquals(car.isDeleted(), carFromDb.isDeleted());
         verify(this.carRepository).save(newCar);
+        verify(knownIdRegistry).registerInserted(KnownIdRegistry.IdType.CAR, 1L);
     }
 
     @Test
@@ -1,5 +1,7 @@
 package com.software.modsen.drivermicroservice.services;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.software.modsen.drivermicroservice.cache.DriverAccountCache;
 import com.software.modsen.drivermicroservice.entities.car.Car;
 import com.software.modsen.drivermicroservice.entities.car.CarBrand;
 import com.software.modsen.drivermicroservice.entities.car.CarColor;
@@ -7,6 +9,8 @@ import com.software.modsen.drivermicroservice.entities.driver.Driver;
 import com.software.modsen.drivermicroservice.entities.driver.Sex;
 import com.software.modsen.drivermicroservice.entities.driver.account.Currency;
 import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccount;
+import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccountSummary;
+import com.software.modsen.drivermicroservice.entities.page.KeysetPage;
 import com.software.modsen.drivermicroservice.exceptions.DriverAccountNotFoundException;
 import com.software.modsen.drivermicroservice.exceptions.DriverNotFoundException;
 import com.software.modsen.drivermicroservice.exceptions.DriverWasDeletedException;
@@ -19,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 import java.util.Optional;
@@ -28,6 +33,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class DriverAccountServiceTest {
@@ -40,16 +46,18 @@ public class DriverAccountServiceTest {
     @InjectMocks
     DriverAccountService driverAccountService;
 
-    private List<DriverAccount> initDriverAccounts() {
+    private List<DriverAccountSummary> initDriverAccountSummaries() {
         return List.of(
-                new DriverAccount(1, new Driver(1, "Alex", "alex@gmail.com",
-                        "+375299999999", Sex.MALE, new Car(1, CarColor.BLUE, CarBrand.AUDI,
-                        "1234AB-1", false), false),
-                        100f, Currency.BYN),
-                new DriverAccount(2, new Driver(2, "Ivan", "ivan@gmail.com",
-                        "+375332929293", Sex.MALE, new Car(2, CarColor.GREEN, CarBrand.ASTON_MARTIN,
-                        "A123BC-2", false), true),
-                        100f, Currency.BYN));
+                new DriverAccountSummary(1, 1, "Alex", 100f, Currency.BYN),
+                new DriverAccountSummary(2, 2, "Ivan", 100f, Currency.BYN));
+    }
+
+    private Driver driverWithId(long id, boolean isDeleted) {
+        return Driver.builder()
+                .id(id)
+                .name("Alex")
+                .isDeleted(isDeleted)
+                .build();
     }
 
     private Driver driverWithIsDeleted(Boolean isDeleted) {
@@ -62,34 +70,32 @@ public class DriverAccountServiceTest {
     @DisplayName("Getting all driver accounts.")
     void getAllDriverAccountsTest_ReturnDriverAccounts() {
         //given
-        List<DriverAccount> driverAccounts = initDriverAccounts();
-        doReturn(driverAccounts).when(driverAccountRepository).findAll();
+        List<DriverAccountSummary> driverAccounts = initDriverAccountSummaries();
+        doReturn(driverAccounts).when(driverAccountRepository).findSummariesByIdGreaterThan(0L, Limit.of(21));
 
         //when
-        List<DriverAccount> driversAccountsFromDb = driverAccountService.getAllDriverAccounts(true);
+        KeysetPage<DriverAccountSummary> driversAccountsFromDb = driverAccountService.getAllDriverAccounts(true, null, 20);
 
         //then
         assertNotNull(driversAccountsFromDb);
-        assertEquals(driverAccounts, driversAccountsFromDb);
+        assertEquals(driverAccounts, driversAccountsFromDb.content());
     }
 
     @Test
     @DisplayName("Getting all not deleted driver accounts.")
     void getAllNotDeletedDriverAccountsTest_ReturnsValidDriverAccounts() {
         //given
-        List<DriverAccount> driverAccounts = initDriverAccounts();
-        List<DriverAccount> notDeletedDriverAccounts = List.of(driverAccounts.get(0));
-        doReturn(notDeletedDriverAccounts).when(this.driverAccountRepository).findAll();
-        doReturn(true).when(this.driverRepository)
-                .existsByIdAndIsDeleted(notDeletedDriverAccounts.get(0).getDriver().getId(),
-                        false);
+        List<DriverAccountSummary> driverAccounts = initDriverAccountSummaries();
+        List<DriverAccountSummary> notDeletedDriverAccounts = List.of(driverAccounts.get(0));
+        doReturn(notDeletedDriverAccounts).when(this.driverAccountRepository)
+                .findSummariesByIdGreaterThanAndDriverIsDeleted(0L, false, Limit.of(21));
 
         //when
-        List<DriverAccount> driverAccountsFromDb = driverAccountService.getAllDriverAccounts(false);
+        KeysetPage<DriverAccountSummary> driverAccountsFromDb = driverAccountService.getAllDriverAccounts(false, null, 20);
 
         //then
         assertNotNull(driverAccountsFromDb);
-        assertEquals(notDeletedDriverAccounts, driverAccountsFromDb);
+        assertEquals(notDeletedDriverAccounts, driverAccountsFromDb.content());
     }
 
     @Test
@@ -327,4 +333,53 @@ public class DriverAccountServiceTest {
         assertTrue(addingDriverAccount.getBalance() > driverAccountOptional.get().getBalance());
         assertEquals(INSUFFICIENT_ACCOUNT_BALANCE_EXCEPTION, exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Getting cached driver account by driver id after driver was deleted.")
+    void getDriverAccountByDriverIdTest_WithCachedDeletedDriver_ReturnsException() {
+        //given
+        DriverAccountCache driverAccountCache = new DriverAccountCache(Caffeine.newBuilder().build(),
+                Caffeine.newBuilder().build());
+        DriverAccount driverAccount = new DriverAccount(1, driverWithIsDeleted(false), 100f, Currency.BYN);
+        driverAccountCache.put(driverAccount);
+        driverAccount.getDriver().setDeleted(true);
+        DriverAccountService cachingDriverAccountService = new DriverAccountService(driverAccountRepository,
+                driverRepository, driverAccountCache, null, null, null);
+
+        //when
+        DriverWasDeletedException exception = assertThrows(DriverWasDeletedException.class,
+                () -> cachingDriverAccountService.getDriverAccountByDriverId(1));
+
+        //then
+        assertEquals(DRIVER_WAS_DELETED_MESSAGE, exception.getMessage());
+        verifyNoInteractions(driverAccountRepository);
+    }
+
+    @Test
+    @DisplayName("Getting driver accounts by driver ids from cache and database.")
+    void getDriverAccountsByDriverIdsTest_WithCachedAndDeletedDrivers_ReturnsNotDeletedAccounts() {
+        //given
+        DriverAccountCache driverAccountCache = new DriverAccountCache(Caffeine.newBuilder().build(),
+                Caffeine.newBuilder().build());
+        DriverAccount cachedDeletedAccount = new DriverAccount(1, driverWithId(1, false), 100f, Currency.BYN);
+        DriverAccount cachedAccount = new DriverAccount(2, driverWithId(2, false), 200f, Currency.BYN);
+        DriverAccount loadedAccount = new DriverAccount(3, driverWithId(3, false), 300f, Currency.BYN);
+        DriverAccount loadedDeletedAccount = new DriverAccount(4, driverWithId(4, true), 400f, Currency.BYN);
+        driverAccountCache.put(cachedDeletedAccount);
+        driverAccountCache.put(cachedAccount);
+        cachedDeletedAccount.getDriver().setDeleted(true);
+        doReturn(List.of(loadedAccount, loadedDeletedAccount)).when(driverAccountRepository)
+                .findAllByDriverIdIn(List.of(4L, 3L));
+        DriverAccountService cachingDriverAccountService = new DriverAccountService(driverAccountRepository,
+                driverRepository, driverAccountCache, null, null, null);
+
+        //when
+        List<DriverAccount> driverAccounts = cachingDriverAccountService
+                .getDriverAccountsByDriverIds(List.of(4L, 2L, 1L, 3L, 2L));
+
+        //then
+        assertEquals(List.of(cachedAccount, loadedAccount), driverAccounts);
+        assertSame(loadedAccount, driverAccountCache.getByDriverId(3));
+        assertNull(driverAccountCache.getByDriverId(4));
+    }
+}
@@ -0,0 +1,165 @@
+package com.software.modsen.drivermicroservice.services;
+
+import com.software.modsen.drivermicroservice.cache.KnownIdRegistry;
+import com.software.modsen.drivermicroservice.entities.car.Car;
+import com.software.modsen.drivermicroservice.entities.car.CarBrand;
+import com.software.modsen.drivermicroservice.entities.car.CarColor;
+import com.software.modsen.drivermicroservice.entities.driver.Driver;
+import com.software.modsen.drivermicroservice.entities.driver.DriverDto;
+import com.software.modsen.drivermicroservice.entities.driver.DriverOnboardingResult;
+import com.software.modsen.drivermicroservice.entities.driver.Sex;
+import com.software.modsen.drivermicroservice.exceptions.TooManyDriversToOnboardException;
+import com.software.modsen.drivermicroservice.observer.DriverSubject;
+import com.software.modsen.drivermicroservice.repositories.CarRepository;
+import com.software.modsen.drivermicroservice.repositories.DriverRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DriverOnboardingServiceTest {
+    @Mock
+    DriverRepository driverRepository;
+
+    @Mock
+    CarRepository carRepository;
+
+    @Mock
+    DriverSubject driverSubject;
+
+    @Mock
+    KnownIdRegistry knownIdRegistry;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    DriverOnboardingService driverOnboardingService;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        driverOnboardingService = new DriverOnboardingService(driverRepository, carRepository, driverSubject,
+                knownIdRegistry, Validation.buildDefaultValidatorFactory().getValidator(), transactionManager, 2);
+    }
+
+    private List<Car> initCars() {
+        return List.of(
+                new Car(1, CarColor.BLUE, CarBrand.AUDI,
+                        "1234AB-1", false),
+                new Car(2, CarColor.GREEN, CarBrand.ASTON_MARTIN,
+                        "A123BC-2", false),
+                new Car(3, CarColor.WHITE, CarBrand.VOLKSWAGEN,
+                        "3333TY-3", false));
+    }
+
+    private DriverDto driverDto(String name, String phoneNumber, long carId) {
+        return new DriverDto(name, name.toLowerCase() + "@gmail.com", phoneNumber, Sex.MALE, carId);
+    }
+
+    private void assignIdsOnSave() {
+        doAnswer(invocation -> {
+            List<Driver> drivers = invocation.getArgument(0);
+            drivers.forEach(driver -> driver.setId(sequence.incrementAndGet()));
+            return drivers;
+        }).when(driverRepository).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Onboarding drivers in chunks.")
+    void onboardDriversTest_WithoutErrors_ReturnsCreatedResults() {
+        //given
+        List<DriverDto> driverDtos = List.of(
+                driverDto("Alex", "+375299999999", 1),
+                driverDto("Ivan", "+375332929293", 2),
+                driverDto("Vlad", "+375293333333", 3));
+        doReturn(initCars().subList(0, 2), initCars().subList(2, 3)).when(carRepository).findAllById(anySet());
+        assignIdsOnSave();
+
+        //when
+        List<DriverOnboardingResult> results = driverOnboardingService.onboardDrivers(driverDtos);
+
+        //then
+        assertEquals(List.of(
+                DriverOnboardingResult.created(0, 1),
+                DriverOnboardingResult.created(1, 2),
+                DriverOnboardingResult.created(2, 3)), results);
+        verify(driverRepository, times(2)).saveAll(anyList());
+        verify(driverSubject, times(2)).notifyDriverObservers(anyList());
+    }
+
+    @Test
+    @DisplayName("Onboarding drivers with invalid data and missing car.")
+    void onboardDriversTest_WithInvalidDriverAndMissingCar_ReturnsFailedResults() {
+        //given
+        List<DriverDto> driverDtos = List.of(
+                driverDto("Alex", "+375299999999", 1),
+                driverDto("Al", "12345", 2),
+                driverDto("Vlad", "+375293333333", 7));
+        doReturn(initCars().subList(0, 1), List.of()).when(carRepository).findAllById(anySet());
+        assignIdsOnSave();
+
+        //when
+        List<DriverOnboardingResult> results = driverOnboardingService.onboardDrivers(driverDtos);
+
+        //then
+        assertEquals(DriverOnboardingResult.created(0, 1), results.get(0));
+        assertNull(results.get(1).driverId());
+        assertTrue(results.get(1).error().contains("Invalid phone number format."));
+        assertEquals(DriverOnboardingResult.failed(2, CAR_NOT_FOUND_MESSAGE), results.get(2));
+    }
+
+    @Test
+    @DisplayName("Onboarding drivers when one of chunk violates constraints.")
+    void onboardDriversTest_WithDataIntegrityViolation_RetriesDriversOneByOne() {
+        //given
+        List<DriverDto> driverDtos = List.of(
+                driverDto("Alex", "+375299999999", 1),
+                driverDto("Ivan", "+375299999999", 2));
+        doReturn(initCars().subList(0, 2), initCars().subList(0, 1), initCars().subList(1, 2))
+                .when(carRepository).findAllById(anySet());
+        assignIdsOnSave();
+        doThrow(DataIntegrityViolationException.class)
+                .doNothing()
+                .doThrow(DataIntegrityViolationException.class)
+                .when(driverRepository).flush();
+
+        //when
+        List<DriverOnboardingResult> results = driverOnboardingService.onboardDrivers(driverDtos);
+
+        //then
+        assertEquals(DriverOnboardingResult.created(0, 3), results.get(0));
+        assertEquals(DriverOnboardingResult.failed(1, DATA_INTEGRITY_VIOLENT_MESSAGE), results.get(1));
+    }
+
+    @Test
+    @DisplayName("Onboarding too many drivers.")
+    void onboardDriversTest_WithTooManyDriversToOnboardException_ReturnsException() {
+        //given
+        List<DriverDto> driverDtos = Collections.nCopies(10_001, driverDto("Alex", "+375299999999", 1));
+
+        //when
+        TooManyDriversToOnboardException exception = assertThrows(TooManyDriversToOnboardException.class,
+                () -> driverOnboardingService.onboardDrivers(driverDtos));
+
+        //then
+        assertEquals(String.format(TOO_MANY_DRIVERS_TO_ONBOARD_MESSAGE, 10_000), exception.getMessage());
+        verifyNoInteractions(driverRepository);
+    }
+}
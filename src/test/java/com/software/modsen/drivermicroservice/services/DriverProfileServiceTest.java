@@ -0,0 +1,170 @@
+package com.software.modsen.drivermicroservice.services;
+
+import com.software.modsen.drivermicroservice.cache.SingleFlightLoader;
+import com.software.modsen.drivermicroservice.entities.car.Car;
+import com.software.modsen.drivermicroservice.entities.car.CarBrand;
+import com.software.modsen.drivermicroservice.entities.car.CarColor;
+import com.software.modsen.drivermicroservice.entities.driver.Driver;
+import com.software.modsen.drivermicroservice.entities.driver.DriverProfile;
+import com.software.modsen.drivermicroservice.entities.driver.DriverProfile.PartStatus;
+import com.software.modsen.drivermicroservice.entities.driver.Sex;
+import com.software.modsen.drivermicroservice.entities.driver.account.Currency;
+import com.software.modsen.drivermicroservice.entities.driver.account.DriverAccount;
+import com.software.modsen.drivermicroservice.entities.driver.rating.DriverRating;
+import com.software.modsen.drivermicroservice.exceptions.DriverAccountNotFoundException;
+import com.software.modsen.drivermicroservice.exceptions.DriverNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.DRIVER_ACCOUNT_NOT_FOUND_MESSAGE;
+import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.DRIVER_NOT_FOUND_MESSAGE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DriverProfileServiceTest {
+    @Mock
+    DriverService driverService;
+
+    @Mock
+    DriverRatingService driverRatingService;
+
+    @Mock
+    DriverAccountService driverAccountService;
+
+    DriverProfileService driverProfileService;
+
+    @BeforeEach
+    void setUp() {
+        driverProfileService = new DriverProfileService(driverService, driverRatingService, driverAccountService,
+                new SimpleMeterRegistry(), 4, 10, 200);
+    }
+
+    @AfterEach
+    void setDown() {
+        driverProfileService.shutdown();
+    }
+
+    private Driver initDriver() {
+        return new Driver(1, "Alex", "alex@gmail.com", "+375299999999", Sex.MALE,
+                new Car(1, CarColor.BLUE, CarBrand.AUDI, "1234AB-1", false), false);
+    }
+
+    @Test
+    @DisplayName("Getting driver profile with all parts.")
+    void getDriverProfileTest_WithAllParts_ReturnsFullProfile() {
+        //given
+        Driver driver = initDriver();
+        DriverRating driverRating = new DriverRating(1, driver, 4.5F, 129);
+        DriverAccount driverAccount = new DriverAccount(1, driver, 100f, Currency.BYN);
+        doReturn(driver).when(driverService).getDriverById(1);
+        doReturn(driverRating).when(driverRatingService).getDriverRatingByDriverId(1);
+        doReturn(driverAccount).when(driverAccountService).getDriverAccountByDriverId(1);
+
+        //when
+        DriverProfile driverProfile = driverProfileService.getDriverProfile(1);
+
+        //then
+        assertEquals(new DriverProfile(driver, driverRating, driverAccount, Map.of(
+                DriverProfileService.DRIVER_PART, PartStatus.OK,
+                DriverProfileService.RATING_PART, PartStatus.OK,
+                DriverProfileService.ACCOUNT_PART, PartStatus.OK)), driverProfile);
+    }
+
+    @Test
+    @DisplayName("Getting driver profile with slow rating and missing account.")
+    void getDriverProfileTest_WithSlowRatingAndMissingAccount_ReturnsPartialProfile() {
+        //given
+        Driver driver = initDriver();
+        doReturn(driver).when(driverService).getDriverById(1);
+        doAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return null;
+        }).when(driverRatingService).getDriverRatingByDriverId(1);
+        doThrow(new DriverAccountNotFoundException(DRIVER_ACCOUNT_NOT_FOUND_MESSAGE))
+                .when(driverAccountService).getDriverAccountByDriverId(1);
+
+        //when
+        long start = System.currentTimeMillis();
+        DriverProfile driverProfile = driverProfileService.getDriverProfile(1);
+
+        //then
+        assertTrue(System.currentTimeMillis() - start < 2_000);
+        assertSame(driver, driverProfile.driver());
+        assertNull(driverProfile.rating());
+        assertNull(driverProfile.account());
+        assertEquals(PartStatus.TIMEOUT, driverProfile.status().get(DriverProfileService.RATING_PART));
+        assertEquals(PartStatus.NOT_FOUND, driverProfile.status().get(DriverProfileService.ACCOUNT_PART));
+    }
+
+    @Test
+    @DisplayName("Completing coalesced rating load after driver profile times out.")
+    void getDriverProfileTest_WithSlowCoalescedRating_CompletesWaiter() throws Exception {
+        //given
+        Driver driver = initDriver();
+        DriverRating driverRating = new DriverRating(1, driver, 4.5F, 129);
+        SingleFlightLoader singleFlightLoader = new SingleFlightLoader(mock(RedisTemplate.class),
+                new SimpleMeterRegistry(), false, 2000, 1000);
+        CountDownLatch ratingLoadStarted = new CountDownLatch(1);
+        CountDownLatch ratingLoadReleased = new CountDownLatch(1);
+        doReturn(driver).when(driverService).getDriverById(1);
+        doAnswer(invocation -> singleFlightLoader.load("driverRating:1", () -> {
+            ratingLoadStarted.countDown();
+
+            try {
+                ratingLoadReleased.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                throw new IllegalStateException("Rating load was interrupted.", exception);
+            }
+
+            return driverRating;
+        })).when(driverRatingService).getDriverRatingByDriverId(1);
+        doReturn(null).when(driverAccountService).getDriverAccountByDriverId(1);
+
+        CompletableFuture<DriverRating> coalescedRating = CompletableFuture.supplyAsync(() -> {
+            try {
+                ratingLoadStarted.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                throw new IllegalStateException(exception);
+            }
+
+            return singleFlightLoader.load("driverRating:1", () -> fail("Rating was loaded twice."));
+        });
+
+        //when
+        DriverProfile driverProfile = driverProfileService.getDriverProfile(1);
+        ratingLoadReleased.countDown();
+
+        //then
+        assertEquals(PartStatus.TIMEOUT, driverProfile.status().get(DriverProfileService.RATING_PART));
+        assertSame(driverRating, coalescedRating.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Getting profile of missing driver.")
+    void getDriverProfileTest_WithDriverNotFoundException_ReturnsException() {
+        //given
+        doThrow(new DriverNotFoundException(DRIVER_NOT_FOUND_MESSAGE)).when(driverService).getDriverById(1);
+        lenient().doReturn(null).when(driverRatingService).getDriverRatingByDriverId(1);
+        lenient().doReturn(null).when(driverAccountService).getDriverAccountByDriverId(1);
+
+        //when
+        DriverNotFoundException exception = assertThrows(DriverNotFoundException.class,
+                () -> driverProfileService.getDriverProfile(1));
+
+        //then
+        assertEquals(DRIVER_NOT_FOUND_MESSAGE, exception.getMessage());
+    }
+}
@@ -6,6 +6,7 @@ import com.software.modsen.drivermicroservice.entities.car.CarColor;
 import com.software.modsen.drivermicroservice.entities.driver.Driver;
 import com.software.modsen.drivermicroservice.entities.driver.Sex;
 import com.software.modsen.drivermicroservice.entities.driver.rating.DriverRating;
+import com.software.modsen.drivermicroservice.entities.page.KeysetPage;
 import com.software.modsen.drivermicroservice.exceptions.DriverRatingNotFoundException;
 import com.software.modsen.drivermicroservice.exceptions.DriverWasDeletedException;
 import com.software.modsen.drivermicroservice.repositories.DriverRatingRepository;
@@ -16,9 +17,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.DRIVER_RATING_NOT_FOUND_MESSAGE;
 import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.DRIVER_WAS_DELETED_MESSAGE;
@@ -35,6 +40,9 @@ public class DriverRatingServiceTest {
     @Mock
     DriverRepository driverRepository;
 
+    @Mock
+    RedisService redisService;
+
     @InjectMocks
     DriverRatingService driverRatingService;
 
@@ -61,14 +69,14 @@ public class DriverRatingServiceTest {
     void getAllDriverRatingsTest_ReturnDriverAccounts() {
         //given
         List<DriverRating> driverRatings = initDriverRatings();
-        doReturn(driverRatings).when(driverRatingRepository).findAll();
+        doReturn(driverRatings).when(driverRatingRepository).findByIdGreaterThanOrderById(0L, Limit.of(21));
 
         //when
-        List<DriverRating> driversRatingsFromDb = driverRatingService.getAllDriverRatings(true);
+        KeysetPage<DriverRating> driversRatingsFromDb = driverRatingService.getAllDriverRatings(true, null, 20);
 
         //then
         assertNotNull(driversRatingsFromDb);
-        assertEquals(driverRatings, driversRatingsFromDb);
+        assertEquals(driverRatings, driversRatingsFromDb.content());
     }
 
     @Test
@@ -77,18 +85,15 @@ public class DriverRatingServiceTest {
         //given
         List<DriverRating> driverRatings = initDriverRatings();
         List<DriverRating> notDeletedDriverRatings = List.of(driverRatings.get(0));
-        doReturn(driverRatings).when(driverRatingRepository).findAll();
-        Optional<Driver> driverOptional = Optional.of(notDeletedDriverRatings.get(0).getDriver());
-        doReturn(driverOptional).when(this.driverRepository)
-                .findDriverByIdAndIsDeleted(notDeletedDriverRatings.get(0).getDriver().getId(),
-                        false);
+        doReturn(notDeletedDriverRatings).when(driverRatingRepository)
+                .findByIdGreaterThanAndDriver_IsDeletedOrderById(0L, false, Limit.of(21));
 
         //when
-        List<DriverRating> passengerRatingsFromDb = driverRatingService.getAllDriverRatings(false);
+        KeysetPage<DriverRating> passengerRatingsFromDb = driverRatingService.getAllDriverRatings(false, null, 20);
 
         //then
         assertNotNull(passengerRatingsFromDb);
-        assertEquals(notDeletedDriverRatings, passengerRatingsFromDb);
+        assertEquals(notDeletedDriverRatings, passengerRatingsFromDb.content());
     }
 
     @Test
@@ -315,4 +320,24 @@ public class DriverRatingServiceTest {
         assertTrue(driverRatingFromData.get().getDriver().isDeleted());
         assertEquals(DRIVER_WAS_DELETED_MESSAGE, exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Getting driver ratings by driver ids from cache and database.")
+    void getDriverRatingsByDriverIdsTest_WithCachedAndMissingRatings_ReturnsNotDeletedRatings() {
+        //given
+        List<DriverRating> driverRatings = initDriverRatings();
+        DriverRating cachedDriverRating = new DriverRating(3, driverWithIsDeleted(false), 4.0F, 10);
+        doReturn(Arrays.asList(cachedDriverRating, null, null)).when(redisService).getAllFromCache(
+                List.of("driverRatingByDriverId:3", "driverRatingByDriverId:1", "driverRatingByDriverId:2"));
+        doReturn(driverRatings).when(driverRatingRepository).findAllByDriverIdIn(List.of(1L, 2L));
+
+        //when
+        List<DriverRating> driverRatingsFromData = driverRatingService.getDriverRatingsByDriverIds(
+                List.of(3L, 1L, 2L, 1L));
+
+        //then
+        assertEquals(List.of(cachedDriverRating, driverRatings.get(0)), driverRatingsFromData);
+        verify(redisService).saveAllToCache(Map.of("driverRatingByDriverId:1", driverRatings.get(0)),
+                1, TimeUnit.HOURS);
+    }
+}
@@ -1,13 +1,19 @@
 package com.software.modsen.drivermicroservice.services;
 
+import com.software.modsen.drivermicroservice.cache.BatchLookup;
+import com.software.modsen.drivermicroservice.cache.CacheInvalidator;
+import com.software.modsen.drivermicroservice.cache.KnownIdRegistry;
 import com.software.modsen.drivermicroservice.entities.car.Car;
 import com.software.modsen.drivermicroservice.entities.car.CarBrand;
 import com.software.modsen.drivermicroservice.entities.car.CarColor;
 import com.software.modsen.drivermicroservice.entities.driver.Driver;
 import com.software.modsen.drivermicroservice.entities.driver.Sex;
+import com.software.modsen.drivermicroservice.entities.page.KeysetPage;
+import com.software.modsen.drivermicroservice.entities.page.PageCursor;
 import com.software.modsen.drivermicroservice.exceptions.CarNotFoundException;
 import com.software.modsen.drivermicroservice.exceptions.DriverNotFoundException;
 import com.software.modsen.drivermicroservice.exceptions.DriverWasDeletedException;
+import com.software.modsen.drivermicroservice.exceptions.TooManyIdsInBatchException;
 import com.software.modsen.drivermicroservice.observer.DriverSubject;
 import com.software.modsen.drivermicroservice.repositories.CarRepository;
 import com.software.modsen.drivermicroservice.repositories.DriverRepository;
@@ -17,13 +23,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
 
 import static com.software.modsen.drivermicroservice.exceptions.ErrorMessage.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.doThrow;
 
@@ -38,9 +51,17 @@ public class DriverServiceTest {
     @Mock
     DriverSubject driverSubject;
 
+    @Mock
+    CacheInvalidator cacheInvalidator;
+
     @InjectMocks
     DriverService driverService;
 
+    private DriverService batchDriverService(RedisService redisService, KnownIdRegistry knownIdRegistry) {
+        return new DriverService(driverRepository, carRepository, driverSubject, redisService, null,
+                cacheInvalidator, null, knownIdRegistry);
+    }
+
     private List<Driver> initDrivers() {
         return List.of(
                 new Driver(1, "Alex", "alex@gmail.com",
@@ -56,14 +77,15 @@ public class DriverServiceTest {
     void getAllDriversTest_ReturnDrivers() {
         //given
         List<Driver> drivers = initDrivers();
-        doReturn(drivers).when(driverRepository).findAll();
+        doReturn(drivers).when(driverRepository).findByIdGreaterThanOrderById(0L, Limit.of(21));
 
         //when
-        List<Driver> driversFromDb = driverService.getAllDrivers(true, null);
+        KeysetPage<Driver> driversFromDb = driverService.getAllDrivers(true, null, null, 20);
 
         //then
         assertNotNull(driversFromDb);
-        assertEquals(drivers, driversFromDb);
+        assertEquals(drivers, driversFromDb.content());
+        assertNull(driversFromDb.nextCursor());
     }
 
     @Test
@@ -72,14 +94,35 @@ public class DriverServiceTest {
         //given
         List<Driver> drivers = initDrivers();
         List<Driver> notDeletedDriver = List.of(drivers.get(0));
-        doReturn(notDeletedDriver).when(driverRepository).findAll();
+        doReturn(notDeletedDriver).when(driverRepository)
+                .findByIdGreaterThanAndIsDeletedOrderById(0L, false, Limit.of(21));
 
         //when
-        List<Driver> driversFromDb = driverService.getAllDrivers(false, null);
+        KeysetPage<Driver> driversFromDb = driverService.getAllDrivers(false, null, null, 20);
 
         //then
         assertNotNull(driversFromDb);
-        assertEquals(notDeletedDriver, driversFromDb);
+        assertEquals(notDeletedDriver, driversFromDb.content());
+    }
+
+    @Test
+    @DisplayName("Getting drivers page by cursor.")
+    void getAllDriversTest_WithCursor_ReturnsNextPage() {
+        //given
+        List<Driver> drivers = initDrivers();
+        doReturn(drivers).when(driverRepository).findByIdGreaterThanOrderById(0L, Limit.of(2));
+        doReturn(List.of(drivers.get(1))).when(driverRepository)
+                .findByIdGreaterThanOrderById(drivers.get(0).getId(), Limit.of(2));
+
+        //when
+        KeysetPage<Driver> firstPage = driverService.getAllDrivers(true, null, null, 1);
+        KeysetPage<Driver> secondPage = driverService.getAllDrivers(true, null, firstPage.nextCursor(), 1);
+
+        //then
+        assertEquals(List.of(drivers.get(0)), firstPage.content());
+        assertEquals(PageCursor.encode(drivers.get(0).getId()), firstPage.nextCursor());
+        assertEquals(List.of(drivers.get(1)), secondPage.content());
+        assertNull(secondPage.nextCursor());
     }
 
     @Test
@@ -159,7 +202,7 @@ public class DriverServiceTest {
         doReturn(carFromDb).when(carRepository).findById(carId);
         Optional<Driver> optionalDriver = Optional.of(new Driver(driverId, "Alex", "alex@gmail.com",
                 "+375299999999", Sex.MALE, carFromDb.get(), false));
-        doReturn(optionalDriver).when(this.driverRepository).findById(driverId);
+        doReturn(optionalDriver).when(this.driverRepository).findByIdForUpdate(driverId);
         Driver driverData = new Driver(driverId, "Alex1", "alex1@gmail.com",
                 "+375299999999", Sex.MALE, carFromDb.get(), false);
         doReturn(driverData).when(this.driverRepository).save(driverData);
@@ -209,7 +252,7 @@ public class DriverServiceTest {
         doReturn(carFromDb).when(carRepository).findById(carId);
         Driver driverData = new Driver(0, "Alex1", "alex1@gmail.com",
                 "+375299999999", Sex.MALE, null, false);
-        doThrow(new DriverNotFoundException(DRIVER_NOT_FOUND_MESSAGE)).when(driverRepository).findById(driverId);
+        doThrow(new DriverNotFoundException(DRIVER_NOT_FOUND_MESSAGE)).when(driverRepository).findByIdForUpdate(driverId);
 
         //when
         DriverNotFoundException exception = assertThrows(DriverNotFoundException.class, () ->
@@ -230,7 +273,7 @@ public class DriverServiceTest {
         doReturn(carFromDb).when(carRepository).findById(carId);
         Optional<Driver> optionalDriver = Optional.of(new Driver(driverId, "Alex", "alex@gmail.com",
                 "+375299999999", Sex.MALE, carFromDb.get(), true));
-        doReturn(optionalDriver).when(driverRepository).findById(driverId);
+        doReturn(optionalDriver).when(driverRepository).findByIdForUpdate(driverId);
         Driver driverData = new Driver(0, "Alex1", "alex1@gmail.com",
                 "+375299999999", Sex.MALE, null, false);
 
@@ -253,7 +296,7 @@ public class DriverServiceTest {
         doReturn(carFromDb).when(carRepository).findById(carId);
         Optional<Driver> optionalDriver = Optional.of(new Driver(driverId, "Alex", "alex@gmail.com",
                 "+375299999999", Sex.MALE, carFromDb.get(), false));
-        doReturn(optionalDriver).when(this.driverRepository).findById(driverId);
+        doReturn(optionalDriver).when(this.driverRepository).findByIdForUpdate(driverId);
         Driver driverData = new Driver(driverId, "Alex1", "alex1@gmail.com",
                 "+375299999999", Sex.MALE, carFromDb.get(), false);
         doReturn(driverData).when(this.driverRepository).save(driverData);
@@ -282,7 +325,7 @@ public class DriverServiceTest {
         Optional<Driver> optionalDriver = Optional.of(new Driver(driverId, "Alex", "alex@gmail.com",
                 "+375299999999", Sex.MALE, new Car(1, CarColor.BLUE, CarBrand.AUDI,
                 "1234AB-1", false), false));
-        doReturn(optionalDriver).when(driverRepository).findById(driverId);
+        doReturn(optionalDriver).when(driverRepository).findByIdForUpdate(driverId);
         doThrow(new CarNotFoundException(CAR_NOT_FOUND_MESSAGE))
                 .when(this.carRepository).findById(carId);
         Driver driverData = new Driver(0, "Alex1", "alex1@gmail.com",
@@ -304,7 +347,7 @@ public class DriverServiceTest {
         long driverId = 1;
         Driver driverData = new Driver(0, "Alex1", "alex1@gmail.com",
                 "+375299999999", Sex.MALE, null, false);
-        doThrow(new DriverNotFoundException(DRIVER_NOT_FOUND_MESSAGE)).when(driverRepository).findById(driverId);
+        doThrow(new DriverNotFoundException(DRIVER_NOT_FOUND_MESSAGE)).when(driverRepository).findByIdForUpdate(driverId);
 
         //when
         DriverNotFoundException exception = assertThrows(DriverNotFoundException.class, () ->
@@ -323,7 +366,7 @@ public class DriverServiceTest {
         Optional<Driver> optionalDriver = Optional.of(new Driver(driverId, "Alex", "alex@gmail.com",
                 "+375299999999", Sex.MALE, new Car(1, CarColor.BLUE, CarBrand.AUDI,
                 "1234AB-1", false), true));
-        doReturn(optionalDriver).when(driverRepository).findById(driverId);
+        doReturn(optionalDriver).when(driverRepository).findByIdForUpdate(driverId);
 
         Driver driverData = new Driver(0, "Alex1", "alex1@gmail.com",
                 "+375299999999", Sex.MALE, null, false);
@@ -344,7 +387,7 @@ public class DriverServiceTest {
         Optional<Driver> foundDriver = Optional.of(new Driver(1, "Alex", "alex@gmail.com",
                 "+375299999999", Sex.MALE, new Car(1, CarColor.BLUE, CarBrand.AUDI,
                 "1234AB-1", false), false));
-        doReturn(foundDriver).when(this.driverRepository).findById(driverId);
+        doReturn(foundDriver).when(this.driverRepository).findByIdForUpdate(driverId);
         Driver deletingDriver = foundDriver.get();
         deletingDriver.setDeleted(true);
         doReturn(deletingDriver).when(this.driverRepository).save(deletingDriver);
@@ -368,7 +411,7 @@ public class DriverServiceTest {
         //given
         long driverId = 2;
         doThrow(new DriverNotFoundException(DRIVER_NOT_FOUND_MESSAGE))
-                .when(this.driverRepository).findById(driverId);
+                .when(this.driverRepository).findByIdForUpdate(driverId);
 
         //when
         DriverNotFoundException exception = assertThrows(DriverNotFoundException.class,
@@ -386,7 +429,7 @@ public class DriverServiceTest {
         Optional<Driver> foundDriver = Optional.of(new Driver(1, "Alex", "alex@gmail.com",
                 "+375299999999", Sex.MALE, new Car(1, CarColor.BLUE, CarBrand.AUDI,
                 "1234AB-1", false), false));
-        doReturn(foundDriver).when(this.driverRepository).findById(driverId);
+        doReturn(foundDriver).when(this.driverRepository).findByIdForUpdate(driverId);
         Driver recoveringDriver = foundDriver.get();
         recoveringDriver.setDeleted(false);
         doReturn(recoveringDriver).when(this.driverRepository).save(recoveringDriver);
@@ -410,7 +453,7 @@ public class DriverServiceTest {
         //given
         long driverId = 2;
         doThrow(new DriverNotFoundException(DRIVER_NOT_FOUND_MESSAGE))
-                .when(this.driverRepository).findById(driverId);
+                .when(this.driverRepository).findByIdForUpdate(driverId);
 
         //when
         DriverNotFoundException exception = assertThrows(DriverNotFoundException.class,
@@ -419,4 +462,70 @@ public class DriverServiceTest {
         //then
         assertEquals(DRIVER_NOT_FOUND_MESSAGE, exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Getting drivers by ids from cache and database.")
+    void getDriversByIdsTest_WithCachedAndMissingDrivers_ReturnsDrivers() {
+        //given
+        List<Driver> drivers = initDrivers();
+        RedisService redisService = mock(RedisService.class);
+        KnownIdRegistry knownIdRegistry = mock(KnownIdRegistry.class);
+        DriverService driverService = batchDriverService(redisService, knownIdRegistry);
+        doAnswer(invocation -> invocation.getArgument(1, Long.class) != 3).when(knownIdRegistry)
+                .mightExist(eq(KnownIdRegistry.IdType.DRIVER), anyLong());
+        doAnswer(invocation -> invocation.getArgument(1, Long.class) == 4).when(knownIdRegistry)
+                .isKnownMissing(eq(KnownIdRegistry.IdType.DRIVER), anyLong());
+        doReturn(Arrays.asList(null, drivers.get(0))).when(redisService)
+                .getAllFromCache(List.of("driver:2", "driver:1"));
+        doReturn(List.of(drivers.get(1))).when(driverRepository).findAllWithCarByIdIn(List.of(2L));
+
+        //when
+        List<Driver> driversFromDb = driverService.getDriversByIds(List.of(2L, 3L, 1L, 4L, 2L));
+
+        //then
+        assertEquals(List.of(drivers.get(1), drivers.get(0)), driversFromDb);
+        verify(redisService).saveAllToCache(Map.of("driver:2", drivers.get(1)), 60, TimeUnit.MINUTES);
+        verify(knownIdRegistry, never()).registerMissing(eq(KnownIdRegistry.IdType.DRIVER), anyLong());
+    }
+
+    @Test
+    @DisplayName("Getting drivers by ids with drivers missing in database.")
+    void getDriversByIdsTest_WithDriverMissingInDatabase_RegistersMissingId() {
+        //given
+        List<Driver> drivers = initDrivers();
+        RedisService redisService = mock(RedisService.class);
+        KnownIdRegistry knownIdRegistry = mock(KnownIdRegistry.class);
+        DriverService driverService = batchDriverService(redisService, knownIdRegistry);
+        doReturn(true).when(knownIdRegistry).mightExist(eq(KnownIdRegistry.IdType.DRIVER), anyLong());
+        doReturn(Arrays.asList(null, null)).when(redisService).getAllFromCache(List.of("driver:1", "driver:5"));
+        doReturn(List.of(drivers.get(0))).when(driverRepository).findAllWithCarByIdIn(List.of(1L, 5L));
+
+        //when
+        List<Driver> driversFromDb = driverService.getDriversByIds(List.of(1L, 5L));
+
+        //then
+        assertEquals(List.of(drivers.get(0)), driversFromDb);
+        verify(redisService).saveAllToCache(Map.of("driver:1", drivers.get(0)), 60, TimeUnit.MINUTES);
+        verify(knownIdRegistry).registerMissing(KnownIdRegistry.IdType.DRIVER, 5);
+        verify(knownIdRegistry, never()).registerMissing(KnownIdRegistry.IdType.DRIVER, 1);
+    }
+
+    @Test
+    @DisplayName("Getting too many drivers by ids.")
+    void getDriversByIdsTest_WithTooManyIds_ReturnsException() {
+        //given
+        RedisService redisService = mock(RedisService.class);
+        KnownIdRegistry knownIdRegistry = mock(KnownIdRegistry.class);
+        DriverService driverService = batchDriverService(redisService, knownIdRegistry);
+        List<Long> ids = LongStream.rangeClosed(1, BatchLookup.MAX_IDS_PER_BATCH + 1).boxed().toList();
+
+        //when
+        TooManyIdsInBatchException exception = assertThrows(TooManyIdsInBatchException.class,
+                () -> driverService.getDriversByIds(ids));
+
+        //then
+        assertEquals(String.format(TOO_MANY_IDS_IN_BATCH_MESSAGE, BatchLookup.MAX_IDS_PER_BATCH),
+                exception.getMessage());
+        verifyNoInteractions(knownIdRegistry, redisService, driverRepository);
+    }
+}
@@ -0,0 +1,94 @@
+package com.software.modsen.drivermicroservice.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.software.modsen.drivermicroservice.entities.car.Car;
+import com.software.modsen.drivermicroservice.entities.car.CarBrand;
+import com.software.modsen.drivermicroservice.entities.car.CarColor;
+import com.software.modsen.drivermicroservice.repositories.CarRepository;
+import com.software.modsen.drivermicroservice.repositories.DriverAccountRepository;
+import com.software.modsen.drivermicroservice.repositories.DriverRatingRepository;
+import com.software.modsen.drivermicroservice.repositories.DriverRepository;
+import jakarta.persistence.EntityManager;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportServiceTest {
+    @Mock
+    DriverRepository driverRepository;
+
+    @Mock
+    CarRepository carRepository;
+
+    @Mock
+    DriverAccountRepository driverAccountRepository;
+
+    @Mock
+    DriverRatingRepository driverRatingRepository;
+
+    @Mock
+    EntityManager entityManager;
+
+    @Spy
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    ExportService exportService;
+
+    private List<Car> initCars() {
+        return List.of(
+                new Car(1, CarColor.BLUE, CarBrand.AUDI,
+                        "1234AB-1", false),
+                new Car(2, CarColor.GREEN, CarBrand.ASTON_MARTIN,
+                        "A123BC-2", true));
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("Exporting cars as NDJSON.")
+    void exportCarsTest_WritesLinePerCar() {
+        //given
+        List<Car> cars = initCars();
+        doReturn(cars.stream()).when(carRepository).streamAllByOrderById();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        exportService.exportCars(outputStream);
+
+        //then
+        String expected = objectMapper.writeValueAsString(cars.get(0)) + "\n"
+                + objectMapper.writeValueAsString(cars.get(1)) + "\n";
+        assertEquals(expected, outputStream.toString());
+        verify(entityManager).detach(cars.get(0));
+        verify(entityManager).detach(cars.get(1));
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("Exporting empty driver ratings.")
+    void exportDriverRatingsTest_WithoutRatings_WritesNothing() {
+        //given
+        doReturn(Stream.empty()).when(driverRatingRepository).streamAll();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        exportService.exportDriverRatings(outputStream);
+
+        //then
+        assertEquals(0, outputStream.size());
+    }
+}
@@ -0,0 +1,217 @@
+package com.software.modsen.drivermicroservice.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.software.modsen.drivermicroservice.cache.ClientSideCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RedisServiceTest {
+    @Mock
+    RedisTemplate<String, Object> template;
+
+    @Mock
+    ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    RedisMessageListenerContainer listenerContainer;
+
+    Cache<String, Object> nearCache = Caffeine.newBuilder().build();
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    RedisService redisService;
+
+    @BeforeEach
+    void setUp() {
+        redisService = new RedisService(template, nearCache,
+                new ClientSideCache(new RedisProperties(), null, meterRegistry, false, 100),
+                listenerContainer, meterRegistry);
+    }
+
+    private MessageListener captureInvalidationListener() {
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(),
+                eq(new ChannelTopic(RedisService.INVALIDATION_CHANNEL)));
+
+        return listener.getValue();
+    }
+
+    @Test
+    @DisplayName("Getting value from near cache without Redis round trip.")
+    void getFromCacheTest_WithNearCacheHit_ReturnsValueWithoutRedis() {
+        //given
+        doReturn(valueOperations).when(template).opsForValue();
+        doReturn("Alex").when(valueOperations).get("driver:1");
+
+        //when
+        Object firstValue = redisService.getFromCache("driver:1");
+        Object secondValue = redisService.getFromCache("driver:1");
+
+        //then
+        assertEquals("Alex", firstValue);
+        assertEquals("Alex", secondValue);
+        verify(valueOperations, times(1)).get("driver:1");
+        assertEquals(1, meterRegistry.get("cache.tier.gets").tags("tier", "l1", "result", "hit").counter().count());
+        assertEquals(1, meterRegistry.get("cache.tier.gets").tags("tier", "l2", "result", "hit").counter().count());
+        assertEquals(0.5, meterRegistry.get("cache.tier.hit.ratio").tags("tier", "l1").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Getting missing value from near cache and Redis.")
+    void getFromCacheTest_WithMissInBothTiers_ReturnsNull() {
+        //given
+        doReturn(valueOperations).when(template).opsForValue();
+
+        //when
+        Object value = redisService.getFromCache("driver:1");
+
+        //then
+        assertNull(value);
+        assertNull(nearCache.getIfPresent("driver:1"));
+        assertEquals(1, meterRegistry.get("cache.tier.gets").tags("tier", "l2", "result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("Getting value with remaining time to live in one pipeline.")
+    void getFromCacheWithExpirationTest_WithRedisHit_ReturnsValueWithRemainingTtl() {
+        //given
+        doReturn(Arrays.asList("Alex", 60_000L)).when(template).executePipelined(any(SessionCallback.class));
+
+        //when
+        RedisService.CachedValue cachedValue = redisService.getFromCacheWithExpiration("driverRating:1");
+        RedisService.CachedValue nearCachedValue = redisService.getFromCacheWithExpiration("driverRating:1");
+
+        //then
+        assertEquals(new RedisService.CachedValue("Alex", 60_000L), cachedValue);
+        assertEquals(new RedisService.CachedValue("Alex", RedisService.CachedValue.UNKNOWN_EXPIRATION),
+                nearCachedValue);
+        verify(template, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("Getting missing value with remaining time to live.")
+    void getFromCacheWithExpirationTest_WithRedisMiss_ReturnsNull() {
+        //given
+        doReturn(Arrays.asList(null, -2L)).when(template).executePipelined(any(SessionCallback.class));
+
+        //when
+        RedisService.CachedValue cachedValue = redisService.getFromCacheWithExpiration("driverRating:1");
+
+        //then
+        assertNull(cachedValue);
+        assertNull(nearCache.getIfPresent("driverRating:1"));
+    }
+
+    @Test
+    @DisplayName("Invalidating cache broadcasts key to other instances.")
+    void invalidateCacheTest_EvictsBothTiersAndPublishesInvalidation() {
+        //given
+        nearCache.put("driver:1", "Alex");
+
+        //when
+        redisService.invalidateCache("driver:1");
+
+        //then
+        assertNull(nearCache.getIfPresent("driver:1"));
+        verify(template).delete("driver:1");
+        verify(template).convertAndSend(eq(RedisService.INVALIDATION_CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("Evicting near cache on invalidation from another instance.")
+    void onInvalidationTest_FromAnotherInstance_EvictsNearCache() {
+        //given
+        MessageListener listener = captureInvalidationListener();
+        doReturn(new StringRedisSerializer()).when(template).getValueSerializer();
+        nearCache.put("driver:1", "Alex");
+
+        //when
+        listener.onMessage(new DefaultMessage(RedisService.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "another-instance|driver:1".getBytes(StandardCharsets.UTF_8)), null);
+
+        //then
+        assertNull(nearCache.getIfPresent("driver:1"));
+    }
+
+    @Test
+    @DisplayName("Keeping near cache on own invalidation after saving value.")
+    void onInvalidationTest_FromSameInstance_KeepsNearCache() {
+        //given
+        MessageListener listener = captureInvalidationListener();
+        doReturn(valueOperations).when(template).opsForValue();
+        doReturn(new StringRedisSerializer()).when(template).getValueSerializer();
+        ArgumentCaptor<Object> invalidation = ArgumentCaptor.forClass(Object.class);
+
+        //when
+        redisService.saveToCache("driver:1", "Alex", 10, TimeUnit.MINUTES);
+        verify(template).convertAndSend(eq(RedisService.INVALIDATION_CHANNEL), invalidation.capture());
+        listener.onMessage(new DefaultMessage(RedisService.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                ((String) invalidation.getValue()).getBytes(StandardCharsets.UTF_8)), null);
+
+        //then
+        assertEquals("Alex", nearCache.getIfPresent("driver:1"));
+        verify(valueOperations).set("driver:1", "Alex", 10, TimeUnit.MINUTES);
+    }
+
+    @Test
+    @DisplayName("Getting several values with near cache hits and one Redis multi-get.")
+    void getAllFromCacheTest_WithPartialNearCacheHits_MultiGetsMissingKeys() {
+        //given
+        nearCache.put("driver:1", "Alex");
+        doReturn(valueOperations).when(template).opsForValue();
+        doReturn(Arrays.asList("Ivan", null)).when(valueOperations).multiGet(List.of("driver:2", "driver:3"));
+
+        //when
+        List<Object> values = redisService.getAllFromCache(List.of("driver:1", "driver:2", "driver:3"));
+
+        //then
+        assertEquals(Arrays.asList("Alex", "Ivan", null), values);
+        assertEquals("Ivan", nearCache.getIfPresent("driver:2"));
+        verify(valueOperations, times(1)).multiGet(anyList());
+        assertEquals(1, meterRegistry.get("cache.tier.gets").tags("tier", "l1", "result", "hit").counter().count());
+        assertEquals(1, meterRegistry.get("cache.tier.gets").tags("tier", "l2", "result", "hit").counter().count());
+        assertEquals(1, meterRegistry.get("cache.tier.gets").tags("tier", "l2", "result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("Saving several values in one pipeline.")
+    void saveAllToCacheTest_WithValues_PipelinesWritesAndFillsNearCache() {
+        //when
+        redisService.saveAllToCache(Map.of("driver:1", "Alex", "driver:2", "Ivan"), 10, TimeUnit.MINUTES);
+
+        //then
+        verify(template, times(1)).executePipelined(any(SessionCallback.class));
+        assertEquals("Alex", nearCache.getIfPresent("driver:1"));
+        assertEquals("Ivan", nearCache.getIfPresent("driver:2"));
+    }
+}